@@ -0,0 +1,228 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import io.github.chitralabs.sheetz.Format;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sustained-load latency of synchronous exports. Requests arrive at a fixed rate and are
+ * served by a fixed pool of worker threads, as behind an HTTP endpoint. Each request writes
+ * {@code -rows} products into an in-memory response buffer.
+ *
+ * <p>Latency is measured from each request's <em>scheduled</em> arrival time, not from when
+ * a worker picked it up. Requests that queue behind a GC pause or a slow export are charged
+ * for the wait. This corrects for coordinated omission, which back-to-back timing such as
+ * {@link LatencyBenchmark} suffers from. Service time, from start to finish of the export
+ * alone, is reported next to it. The gap between the two is queueing.
+ *
+ * <p>By default each library gets its own rate: {@code -load} (default 0.5) times the
+ * capacity measured during warmup ({@code -threads} / mean service time). Every library then
+ * runs at the same utilization. {@code -rate} fixes one rate, in requests per second, for
+ * all of them.
+ *
+ * <p>Writes percentiles (p50, p90, p99, p99.9, max) per library to {@code results/latency.txt}.
+ *
+ * <pre>java -cp target/benchmarks.jar io.github.chitralabs.sheetz.benchmarks.jmh.ArrivalRateRunner -rows 10000 -duration 60</pre>
+ *
+ * Options: {@code -rows} (default 1000), {@code -threads} (workers, default 2),
+ * {@code -load} or {@code -rate}, {@code -warmup} and {@code -duration} (seconds, default
+ * 10 and 30), {@code -only} (regex on the library name).
+ */
+public class ArrivalRateRunner {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    @FunctionalInterface
+    private interface Export {
+        void write(ByteArrayOutputStream response) throws Exception;
+    }
+
+    private int rows = 1000;
+    private int threads = 2;
+    private double load = 0.5;
+    private double rate = -1;
+    private int warmupSeconds = 10;
+    private int durationSeconds = 30;
+    private String only = ".*";
+
+    public static void main(String[] args) throws Exception {
+        ArrivalRateRunner runner = new ArrivalRateRunner();
+        for (int i = 0; i < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "-rows":
+                    runner.rows = Integer.parseInt(value);
+                    break;
+                case "-threads":
+                    runner.threads = Integer.parseInt(value);
+                    break;
+                case "-load":
+                    runner.load = Double.parseDouble(value);
+                    break;
+                case "-rate":
+                    runner.rate = Double.parseDouble(value);
+                    break;
+                case "-warmup":
+                    runner.warmupSeconds = Integer.parseInt(value);
+                    break;
+                case "-duration":
+                    runner.durationSeconds = Integer.parseInt(value);
+                    break;
+                case "-only":
+                    runner.only = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        runner.run(new File("results/latency.txt"));
+    }
+
+    void run(File output) throws Exception {
+        List<Product> products = DataGenerator.generateProducts(rows);
+        List<ProductEasyExcel> productsEasyExcel = DataGenerator.toEasyExcel(products);
+        Map<String, Export> exports = new LinkedHashMap<>();
+        exports.put("sheetz", out -> Sheetz.write(products, out, Format.XLSX));
+        exports.put("poi", out -> ProductIO.poiWrite(products, out));
+        exports.put("poiStreaming", out -> ProductIO.poiStreamingWrite(products, out));
+        exports.put("easyExcel", out -> ProductIO.easyExcelWrite(productsEasyExcel, out));
+        exports.put("fastExcel", out -> ProductIO.fastExcelWrite(products, out));
+
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, Export> e : exports.entrySet()) {
+            if (!e.getKey().matches(only)) continue;
+            String line = measure(e.getKey(), e.getValue());
+            System.out.println(line);
+            lines.add(line);
+        }
+
+        output.getParentFile().mkdirs();
+        try (PrintWriter out = new PrintWriter(output, "UTF-8")) {
+            out.println("# Export latency at a fixed arrival rate, corrected for coordinated omission");
+            out.println("#");
+            out.println("# JVM:      " + System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+            out.println("# Load:     " + rows + " rows per export, " + threads + " worker threads, "
+                    + (rate > 0 ? rate + " req/s for every library" : "rate = " + load + " x measured capacity per library"));
+            out.println("# Run:      " + warmupSeconds + " s warmup, " + durationSeconds + " s measured");
+            out.println("# latency:  scheduled arrival -> response complete (includes queueing), ms");
+            out.println("# service:  export start -> response complete, ms");
+            out.println("# late:     share of requests whose latency exceeded twice the p50 service time");
+            out.println();
+            out.println(header());
+            lines.forEach(out::println);
+        }
+    }
+
+    private static String header() {
+        StringBuilder h = new StringBuilder(String.format("%-14s %8s %8s %9s", "Library", "req/s", "count", ""));
+        for (double p : PERCENTILES) {
+            h.append(String.format(" %9s", "p" + (p == Math.rint(p) ? String.valueOf((int) p) : String.valueOf(p))));
+        }
+        return h.append(String.format(" %9s %6s", "max", "late")).toString();
+    }
+
+    private String measure(String library, Export export) throws Exception {
+        // Warmup, back to back on every worker, also gives the service time for the default rate
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+            AtomicInteger calls = new AtomicInteger();
+            List<Future<?>> workers = new ArrayList<>();
+            long warmupStart = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                workers.add(pool.submit(() -> {
+                    ByteArrayOutputStream response = new ByteArrayOutputStream(rows * 64);
+                    while (System.nanoTime() < warmupEnd) {
+                        response.reset();
+                        export.write(response);
+                        calls.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            double meanServiceNanos = (double) (System.nanoTime() - warmupStart) * threads / Math.max(1, calls.get());
+            double requestsPerSecond = rate > 0 ? rate : load * threads * 1e9 / meanServiceNanos;
+
+            // Measurement: a scheduler submits request i at start + i * period, whatever happened before
+            int count = (int) Math.max(1, Math.round(requestsPerSecond * durationSeconds));
+            long period = (long) (1e9 / requestsPerSecond);
+            long[] latency = new long[count];
+            long[] service = new long[count];
+            AtomicInteger failures = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(count);
+            ThreadLocal<ByteArrayOutputStream> responses = ThreadLocal.withInitial(() -> new ByteArrayOutputStream(rows * 64));
+            long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10);
+            for (int i = 0; i < count; i++) {
+                long scheduled = start + i * period;
+                for (long wait = scheduled - System.nanoTime(); wait > 0; wait = scheduled - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+                int request = i;
+                pool.execute(() -> {
+                    long begin = System.nanoTime();
+                    try {
+                        ByteArrayOutputStream response = responses.get();
+                        response.reset();
+                        export.write(response);
+                    } catch (Exception ex) {
+                        failures.incrementAndGet();
+                    } finally {
+                        long end = System.nanoTime();
+                        latency[request] = end - scheduled;
+                        service[request] = end - begin;
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+            if (failures.get() > 0) {
+                return String.format("%-14s %d of %d requests failed", library, failures.get(), count);
+            }
+
+            Arrays.sort(latency);
+            Arrays.sort(service);
+            long late = 0;
+            long threshold = 2 * percentile(service, 50);
+            for (long l : latency) {
+                if (l > threshold) late++;
+            }
+            StringBuilder latencyLine = new StringBuilder(String.format("%-14s %8.1f %8d %9s", library, requestsPerSecond, count, "latency"));
+            StringBuilder serviceLine = new StringBuilder(String.format("%-14s %8s %8s %9s", "", "", "", "service"));
+            for (double p : PERCENTILES) {
+                latencyLine.append(String.format(" %9.2f", percentile(latency, p) / 1e6));
+                serviceLine.append(String.format(" %9.2f", percentile(service, p) / 1e6));
+            }
+            latencyLine.append(String.format(" %9.2f %5.1f%%", latency[count - 1] / 1e6, 100.0 * late / count));
+            serviceLine.append(String.format(" %9.2f", service[count - 1] / 1e6));
+            return latencyLine + System.lineSeparator() + serviceLine;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** Nearest-rank percentile of sorted values. */
+    private static long percentile(long[] sorted, double p) {
+        int rank = (int) Math.ceil(p / 100 * sorted.length);
+        return sorted[Math.min(sorted.length, Math.max(1, rank)) - 1];
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Runs the suite with JMH's GC profiler attached, so every benchmark reports allocation
+ * ({@code gc.alloc.rate.norm}, bytes/op) and GC cost ({@code gc.count}, {@code gc.time})
+ * alongside its timing. {@link OutputSizeProfiler} adds the output size of write benchmarks.
+ *
+ * <p>Accepts the usual JMH command line. Writes the full JMH table to
+ * {@code results/results-gc.txt} and a per-row allocation and output-size summary to
+ * {@code results/allocation.txt}.
+ *
+ * <pre>java -cp target/benchmarks.jar io.github.chitralabs.sheetz.benchmarks.jmh.BenchmarkRunner ReadBenchmark WriteBenchmark</pre>
+ *
+ * <p>{@code -jfr} (before the JMH options) also attaches {@link FlightRecorderProfiler}. It
+ * records every benchmark and parameter combination to {@code results/jfr/} and writes a
+ * summary of hot methods, allocation sites and locks next to each recording.
+ */
+public class BenchmarkRunner {
+
+    private static final String RESULTS_DIR = "results";
+
+    public static void main(String[] args) throws Exception {
+        boolean jfr = args.length > 0 && args[0].equals("-jfr");
+        CommandLineOptions cli = new CommandLineOptions(jfr ? Arrays.copyOfRange(args, 1, args.length) : args);
+        new File(RESULTS_DIR).mkdirs();
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(cli)
+                .addProfiler(GCProfiler.class)
+                .addProfiler(OutputSizeProfiler.class);
+        if (jfr) {
+            options.addProfiler(FlightRecorderProfiler.class);
+        }
+        if (!cli.getResult().hasValue()) {
+            options.resultFormat(ResultFormatType.TEXT)
+                    .result(RESULTS_DIR + "/results-gc.txt");
+        }
+
+        Collection<RunResult> results = new Runner(options.build()).run();
+        writeAllocationReport(results, new File(RESULTS_DIR, "allocation.txt"));
+    }
+
+    /**
+     * One line per benchmark and row count: time, bytes allocated per operation and per row,
+     * the GCs that happened while measuring, and the output size of write benchmarks.
+     */
+    static void writeAllocationReport(Collection<RunResult> results, File file) throws Exception {
+        List<RunResult> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.comparing((RunResult r) -> r.getParams().getBenchmark())
+                .thenComparing(BenchmarkRunner::label)
+                .thenComparingLong(r -> rowCount(r)));
+
+        try (PrintWriter out = new PrintWriter(file, "UTF-8")) {
+            out.println("# Allocation and GC cost per benchmark (JMH -prof gc)");
+            out.println("#");
+            out.println("# B/op   = gc.alloc.rate.norm, bytes allocated per operation");
+            out.println("# B/row  = B/op divided by rowCount");
+            out.println("# GCs    = gc.count over all measurement iterations");
+            out.println("# GC ms  = gc.time over all measurement iterations");
+            out.println("# Out KB = output.size, bytes written per operation (write benchmarks only)");
+            out.println();
+            out.printf("%-70s %10s %13s %16s %12s %8s %10s %10s%n",
+                    "Benchmark", "rowCount", "Score", "B/op", "B/row", "GCs", "GC ms", "Out KB");
+            for (RunResult r : sorted) {
+                Result<?> primary = r.getPrimaryResult();
+                long rows = rowCount(r);
+                double bytesPerOp = secondary(r, "gc.alloc.rate.norm");
+                double outputKb = secondary(r, "output.size");
+                out.printf("%-70s %10s %8.3f %-4s %16.0f %12s %8.0f %10.0f %10s%n",
+                        label(r),
+                        rows > 0 ? String.valueOf(rows) : "-",
+                        primary.getScore(), primary.getScoreUnit(),
+                        bytesPerOp,
+                        rows > 0 ? String.format("%.1f", bytesPerOp / rows) : "-",
+                        secondary(r, "gc.count"),
+                        secondary(r, "gc.time"),
+                        Double.isNaN(outputKb) ? "-" : String.format("%.0f", outputKb));
+            }
+        }
+    }
+
+    static long rowCount(RunResult r) {
+        String value = r.getParams().getParam("rowCount");
+        return value == null ? -1 : Long.parseLong(value);
+    }
+
+    /** {@link #shortName} plus any parameters other than {@code rowCount}, e.g. {@code [deflateLevel=9]}. */
+    static String label(RunResult r) {
+        StringBuilder label = new StringBuilder(shortName(r.getParams().getBenchmark()));
+        String separator = " [";
+        for (String key : r.getParams().getParamsKeys()) {
+            if (key.equals("rowCount")) continue;
+            label.append(separator).append(key).append('=').append(r.getParams().getParam(key));
+            separator = ", ";
+        }
+        return separator.equals(", ") ? label.append(']').toString() : label.toString();
+    }
+
+    static String shortName(String benchmark) {
+        String[] parts = benchmark.split("\\.");
+        return parts.length < 2 ? benchmark : parts[parts.length - 2] + "." + parts[parts.length - 1];
+    }
+
+    private static double secondary(RunResult r, String label) {
+        Result<?> result = r.getSecondaryResults().get(label);
+        return result == null ? Double.NaN : result.getScore();
+    }
+}
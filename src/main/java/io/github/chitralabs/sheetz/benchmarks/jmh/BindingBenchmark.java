@@ -0,0 +1,340 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+import com.poiji.bind.Poiji;
+import io.github.chitralabs.sheetz.Format;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.annotation.Column;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Object binding without any parsing: already-parsed cell values (as a reader hands them
+ * over, numbers as {@code Double}) are turned into model objects, and model objects back
+ * into cell values for writing.
+ *
+ * <p>Sheetz and Poiji do not expose their binders, so {@code sheetzLikeReflection*} is a
+ * stand-in for the strategy they describe, and no Sheetz code runs in it: {@code @Column}
+ * lookup by header name, then reflective {@code Field.set} with per-cell type conversion.
+ * {@code sheetzLikeReflectionUncached} redoes the annotation scan for every row, and
+ * {@code sheetzLikeReflection} resolves fields and converters once. The remaining binders
+ * are the faster alternatives a mapper could use: {@code MethodHandle}s,
+ * {@code LambdaMetafactory} lambdas and the hand-written mapping of
+ * {@code ReadBenchmark.fastExcelRead}.
+ *
+ * <p>Sheetz's real mapping path is measured by difference. {@code sheetzReadInMemory} runs
+ * {@code Sheetz.read} on the workbook's bytes held in memory, so no file I/O is timed, and
+ * {@code parseEventModel} and {@code parseUserModel} parse the same bytes with POI's event
+ * and user models, consuming every cell without binding. {@code sheetzReadInMemory} minus
+ * the parse Sheetz is built on is the cost of Sheetz's header matching, conversion and
+ * object creation, to set against the stand-ins above.
+ *
+ * <p>The {@code *LambdaMetafactory} scores are not directly comparable with the others:
+ * lambdas need methods, so they bind {@link ProductEasyExcel} through its setters and
+ * getters, while every other binder sets {@link Product}'s public fields.
+ *
+ * <p>Poiji can also bind from an already-parsed POI {@link Sheet}. {@code poijiSheet} and
+ * {@code poiSheet} bind the same in-memory {@link XSSFWorkbook}, so no XML is parsed while
+ * measuring.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BindingBenchmark {
+
+    @Param({"1000", "100000"})
+    private int rowCount;
+
+    private Object[][] cells;
+    private byte[] bytes;
+    private XSSFWorkbook workbook;
+    private List<Product> products;
+    private List<ProductEasyExcel> beans;
+
+    private Field[] fields;
+    private Function<Object, Object>[] converters;
+    private MethodHandle[] setterHandles;
+    private MethodHandle[] getterHandles;
+    private BiConsumer<ProductEasyExcel, Object>[] lambdaSetters;
+    private Function<ProductEasyExcel, Object>[] lambdaGetters;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() throws Throwable {
+        products = DataGenerator.generateProducts(rowCount);
+        beans = DataGenerator.toEasyExcel(products);
+        cells = new Object[rowCount][];
+        for (int i = 0; i < rowCount; i++) {
+            Product p = products.get(i);
+            cells[i] = new Object[]{p.name, p.price, p.inStock, p.category, (double) p.quantity};
+        }
+
+        String testFile = "benchmark_data/read_" + rowCount + ".xlsx";
+        if (!new File(testFile).exists()) {
+            DataGenerator.generateTestFile(testFile, rowCount);
+        }
+        bytes = Files.readAllBytes(new File(testFile).toPath());
+        workbook = new XSSFWorkbook(new ByteArrayInputStream(bytes));
+
+        String[] headers = ProductIO.HEADERS;
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        fields = new Field[headers.length];
+        converters = new Function[headers.length];
+        setterHandles = new MethodHandle[headers.length];
+        getterHandles = new MethodHandle[headers.length];
+        lambdaSetters = new BiConsumer[headers.length];
+        lambdaGetters = new Function[headers.length];
+        for (int c = 0; c < headers.length; c++) {
+            Field field = columnField(Product.class, headers[c]);
+            fields[c] = field;
+            converters[c] = converterFor(field.getType());
+            setterHandles[c] = lookup.unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            getterHandles[c] = lookup.unreflectGetter(field)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+
+            Field beanField = excelPropertyField(headers[c]);
+            String property = Character.toUpperCase(beanField.getName().charAt(0)) + beanField.getName().substring(1);
+            Class<?> type = beanField.getType();
+            MethodHandle setter = lookup.findVirtual(ProductEasyExcel.class, "set" + property,
+                    MethodType.methodType(void.class, type));
+            CallSite setterSite = LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    setter, MethodType.methodType(void.class, ProductEasyExcel.class, type));
+            lambdaSetters[c] = (BiConsumer<ProductEasyExcel, Object>) setterSite.getTarget().invokeExact();
+            MethodHandle getter = lookup.findVirtual(ProductEasyExcel.class, "get" + property,
+                    MethodType.methodType(type));
+            CallSite getterSite = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    getter, MethodType.methodType(type, ProductEasyExcel.class));
+            lambdaGetters[c] = (Function<ProductEasyExcel, Object>) getterSite.getTarget().invokeExact();
+        }
+    }
+
+    // ── Cells → objects (read side) ────────────────────
+
+    @Benchmark
+    public void readHandWritten(Blackhole bh) {
+        for (Object[] row : cells) {
+            Product p = new Product();
+            p.name = (String) row[0];
+            p.price = (Double) row[1];
+            p.inStock = (Boolean) row[2];
+            p.category = (String) row[3];
+            p.quantity = ((Number) row[4]).intValue();
+            bh.consume(p);
+        }
+    }
+
+    @Benchmark
+    public void readSheetzLikeReflectionUncached(Blackhole bh) throws Exception {
+        String[] headers = ProductIO.HEADERS;
+        for (Object[] row : cells) {
+            Product p = Product.class.getDeclaredConstructor().newInstance();
+            for (int c = 0; c < headers.length; c++) {
+                Field field = columnField(Product.class, headers[c]);
+                field.set(p, convert(row[c], field.getType()));
+            }
+            bh.consume(p);
+        }
+    }
+
+    @Benchmark
+    public void readSheetzLikeReflection(Blackhole bh) throws Exception {
+        for (Object[] row : cells) {
+            Product p = new Product();
+            for (int c = 0; c < fields.length; c++) {
+                fields[c].set(p, converters[c].apply(row[c]));
+            }
+            bh.consume(p);
+        }
+    }
+
+    @Benchmark
+    public void readMethodHandle(Blackhole bh) throws Throwable {
+        for (Object[] row : cells) {
+            Product p = new Product();
+            for (int c = 0; c < setterHandles.length; c++) {
+                setterHandles[c].invokeExact((Object) p, converters[c].apply(row[c]));
+            }
+            bh.consume(p);
+        }
+    }
+
+    @Benchmark
+    public void readLambdaMetafactory(Blackhole bh) {
+        for (Object[] row : cells) {
+            ProductEasyExcel p = new ProductEasyExcel();
+            for (int c = 0; c < lambdaSetters.length; c++) {
+                lambdaSetters[c].accept(p, converters[c].apply(row[c]));
+            }
+            bh.consume(p);
+        }
+    }
+
+    @Benchmark
+    public List<Product> poijiSheet() {
+        return Poiji.fromExcel(workbook.getSheetAt(0), Product.class);
+    }
+
+    @Benchmark
+    public void poiSheet(Blackhole bh) {
+        Sheet sheet = workbook.getSheetAt(0);
+        for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+            Row row = sheet.getRow(i);
+            Product p = new Product();
+            p.name = row.getCell(0).getStringCellValue();
+            p.price = row.getCell(1).getNumericCellValue();
+            p.inStock = row.getCell(2).getBooleanCellValue();
+            p.category = row.getCell(3).getStringCellValue();
+            p.quantity = (int) row.getCell(4).getNumericCellValue();
+            bh.consume(p);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        workbook.close();
+    }
+
+    // ── Sheetz's mapping path: parse + bind − parse ────
+
+    @Benchmark
+    public List<Product> sheetzReadInMemory() throws Exception {
+        return Sheetz.read(new ByteArrayInputStream(bytes), Product.class, Format.XLSX);
+    }
+
+    /** The same bytes parsed by the POI event model, every cell's text consumed, nothing bound. */
+    @Benchmark
+    public void parseEventModel(Blackhole bh) throws Exception {
+        PoiEventReader.read(new ByteArrayInputStream(bytes), ProductIO.HEADERS.length, (rowNum, row) -> {
+            for (String cell : row) {
+                bh.consume(cell);
+            }
+            return true;
+        });
+    }
+
+    /** The same bytes loaded into an {@link XSSFWorkbook}, every cell's value consumed, nothing bound. */
+    @Benchmark
+    public void parseUserModel(Blackhole bh) throws Exception {
+        try (XSSFWorkbook parsed = new XSSFWorkbook(new ByteArrayInputStream(bytes))) {
+            Sheet sheet = parsed.getSheetAt(0);
+            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+                Row row = sheet.getRow(i);
+                bh.consume(row.getCell(0).getStringCellValue());
+                bh.consume(row.getCell(1).getNumericCellValue());
+                bh.consume(row.getCell(2).getBooleanCellValue());
+                bh.consume(row.getCell(3).getStringCellValue());
+                bh.consume(row.getCell(4).getNumericCellValue());
+            }
+        }
+    }
+
+    // ── Objects → cells (write side) ───────────────────
+
+    @Benchmark
+    public void writeHandWritten(Blackhole bh) {
+        for (Product p : products) {
+            bh.consume(new Object[]{p.name, p.price, p.inStock, p.category, p.quantity});
+        }
+    }
+
+    @Benchmark
+    public void writeSheetzLikeReflection(Blackhole bh) throws Exception {
+        for (Product p : products) {
+            Object[] row = new Object[fields.length];
+            for (int c = 0; c < fields.length; c++) {
+                row[c] = fields[c].get(p);
+            }
+            bh.consume(row);
+        }
+    }
+
+    @Benchmark
+    public void writeMethodHandle(Blackhole bh) throws Throwable {
+        for (Product p : products) {
+            Object[] row = new Object[getterHandles.length];
+            for (int c = 0; c < getterHandles.length; c++) {
+                row[c] = (Object) getterHandles[c].invokeExact((Object) p);
+            }
+            bh.consume(row);
+        }
+    }
+
+    @Benchmark
+    public void writeLambdaMetafactory(Blackhole bh) {
+        for (ProductEasyExcel p : beans) {
+            Object[] row = new Object[lambdaGetters.length];
+            for (int c = 0; c < lambdaGetters.length; c++) {
+                row[c] = lambdaGetters[c].apply(p);
+            }
+            bh.consume(row);
+        }
+    }
+
+    // ── Mapping helpers ────────────────────────────────
+
+    private static Field columnField(Class<?> type, String header) {
+        for (Field field : type.getDeclaredFields()) {
+            Column column = field.getAnnotation(Column.class);
+            if (column != null && column.value().equals(header)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("No @Column(\"" + header + "\") on " + type.getSimpleName());
+    }
+
+    private static Field excelPropertyField(String header) {
+        for (Field field : ProductEasyExcel.class.getDeclaredFields()) {
+            ExcelProperty property = field.getAnnotation(ExcelProperty.class);
+            if (property != null && property.value()[0].equals(header)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("No @ExcelProperty(\"" + header + "\") on ProductEasyExcel");
+    }
+
+    /** Type conversion decided per cell, as a generic converter registry does. */
+    private static Object convert(Object value, Class<?> type) {
+        if (value == null) return null;
+        if (type == String.class) return value.toString();
+        if (type == Double.class) return ((Number) value).doubleValue();
+        if (type == Integer.class) return ((Number) value).intValue();
+        if (type == Boolean.class) return value instanceof Boolean ? value : Boolean.valueOf(value.toString());
+        throw new IllegalArgumentException("Unsupported type " + type);
+    }
+
+    /** The same conversion, resolved once per column. */
+    private static Function<Object, Object> converterFor(Class<?> type) {
+        if (type == String.class) return v -> v == null ? null : v.toString();
+        if (type == Double.class) return v -> v == null ? null : ((Number) v).doubleValue();
+        if (type == Integer.class) return v -> v == null ? null : ((Number) v).intValue();
+        if (type == Boolean.class) return v -> v == null || v instanceof Boolean ? v : Boolean.valueOf(v.toString());
+        throw new IllegalArgumentException("Unsupported type " + type);
+    }
+}
@@ -0,0 +1,176 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.exception.ExcelAnalysisStopException;
+import com.alibaba.excel.read.listener.ReadListener;
+import com.poiji.bind.Poiji;
+import com.poiji.option.PoijiOptions;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import io.github.chitralabs.sheetz.reader.StreamingReader;
+import org.dhatim.fastexcel.reader.ReadableWorkbook;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * First-call latency in a fresh JVM: class loading, annotation scanning and
+ * POI/XMLBeans initialization included. Every fork measures exactly one call, so
+ * the score distribution across forks is the cold-start cost.
+ *
+ * <p>{@code *FirstRow} methods measure time-to-first-row for the streaming readers.
+ * The input file is generated in a separate JVM, so no library class is loaded before
+ * the measured call.
+ *
+ * <p>To evaluate AppCDS, create an archive from one run (JDK 13+) and pass it to the forks:
+ * <pre>
+ * java -XX:ArchiveClassesAtExit=benchmarks.jsa -jar target/benchmarks.jar ColdStartBenchmark -f 0
+ * java -jar target/benchmarks.jar ColdStartBenchmark -jvmArgsAppend -XX:SharedArchiveFile=benchmarks.jsa
+ * </pre>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ColdStartBenchmark {
+
+    @Param({"1000"})
+    private int rowCount;
+
+    private String testFile;
+    private List<Product> products;
+    private List<ProductEasyExcel> productsEasyExcel;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        testFile = "benchmark_data/read_" + rowCount + ".xlsx";
+        if (!new File(testFile).exists()) {
+            DataGenerator.generateTestFileForked(testFile, rowCount);
+        }
+        products = DataGenerator.generateProducts(rowCount);
+        productsEasyExcel = DataGenerator.toEasyExcel(products);
+    }
+
+    // ── First read ─────────────────────────────────────
+
+    @Benchmark
+    public List<Product> sheetzRead() throws Exception {
+        return Sheetz.read(testFile, Product.class);
+    }
+
+    @Benchmark
+    public List<Product> poiRead() throws Exception {
+        try (FileInputStream fis = new FileInputStream(testFile)) {
+            return ProductIO.poiRead(fis);
+        }
+    }
+
+    @Benchmark
+    public List<ProductEasyExcel> easyExcelRead() throws Exception {
+        try (FileInputStream fis = new FileInputStream(testFile)) {
+            return ProductIO.easyExcelRead(fis);
+        }
+    }
+
+    @Benchmark
+    public List<Product> fastExcelRead() throws Exception {
+        try (FileInputStream fis = new FileInputStream(testFile)) {
+            return ProductIO.fastExcelRead(fis);
+        }
+    }
+
+    @Benchmark
+    public List<Product> poijiRead() throws Exception {
+        return Poiji.fromExcel(new File(testFile), Product.class);
+    }
+
+    // ── First write ────────────────────────────────────
+
+    @Benchmark
+    public void sheetzWrite() throws Exception {
+        Sheetz.write(products, OutputSizeProfiler.track("benchmark_data/cold_sheetz.xlsx"));
+    }
+
+    @Benchmark
+    public void poiWrite() throws Exception {
+        try (OutputStream os = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/cold_poi.xlsx"))) {
+            ProductIO.poiWrite(products, os);
+        }
+    }
+
+    @Benchmark
+    public void easyExcelWrite() throws Exception {
+        try (OutputStream os = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/cold_easyexcel.xlsx"))) {
+            ProductIO.easyExcelWrite(productsEasyExcel, os);
+        }
+    }
+
+    @Benchmark
+    public void fastExcelWrite() throws Exception {
+        try (OutputStream os = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/cold_fastexcel.xlsx"))) {
+            ProductIO.fastExcelWrite(products, os);
+        }
+    }
+
+    // ── Time to first row (streaming readers) ──────────
+
+    @Benchmark
+    public Product sheetzFirstRow() throws Exception {
+        try (StreamingReader<Product> reader = Sheetz.stream(testFile, Product.class)) {
+            return reader.iterator().next();
+        }
+    }
+
+    @Benchmark
+    public Product fastExcelFirstRow() throws Exception {
+        try (FileInputStream fis = new FileInputStream(testFile);
+             ReadableWorkbook wb = new ReadableWorkbook(fis);
+             Stream<org.dhatim.fastexcel.reader.Row> rows = wb.getFirstSheet().openStream()) {
+            return rows.skip(1).findFirst().map(ProductIO::fastExcelProduct).orElse(null);
+        }
+    }
+
+    @Benchmark
+    public ProductEasyExcel easyExcelFirstRow() {
+        ProductEasyExcel[] first = new ProductEasyExcel[1];
+        EasyExcel.read(testFile, ProductEasyExcel.class, new ReadListener<ProductEasyExcel>() {
+            @Override
+            public void invoke(ProductEasyExcel data, AnalysisContext context) {
+                first[0] = data;
+                throw new ExcelAnalysisStopException();
+            }
+
+            @Override
+            public void doAfterAllAnalysed(AnalysisContext context) {
+            }
+        }).sheet().doRead();
+        return first[0];
+    }
+
+    @Benchmark
+    public String[] poiEventFirstRow() throws Exception {
+        String[][] first = new String[1][];
+        PoiEventReader.read(testFile, 5, (rowNum, cells) -> {
+            if (rowNum == 0) return true;
+            first[0] = cells.clone();
+            return false;
+        });
+        return first[0];
+    }
+
+    @Benchmark
+    public List<Product> poijiFirstRow() {
+        return Poiji.fromExcel(new File(testFile), Product.class,
+                PoijiOptions.PoijiOptionsBuilder.settings().limit(1).build());
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.dhatim.fastexcel.Workbook;
+import org.dhatim.fastexcel.Worksheet;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write time against output size for the compression settings the libraries expose:
+ * FastExcel's {@code setCompressionLevel}, and for SXSSF the deflate level of the
+ * output ZIP (set by overriding {@code createArchiveOutputStream}) and
+ * {@code setCompressTempFiles}, which gzips the temp sheet files and does not change
+ * the output. Sheetz and EasyExcel expose no compression setting and run with their
+ * defaults as reference points.
+ *
+ * <p>Run with {@link OutputSizeProfiler} (or {@link BenchmarkRunner}) to get
+ * {@code output.size} next to the score.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CompressionBenchmark {
+
+    @Param({"10000", "100000"})
+    private int rowCount;
+
+    private List<Product> products;
+    private List<ProductEasyExcel> productsEasyExcel;
+
+    /** Deflate level of the output ZIP, 1 (fastest) to 9 (smallest). */
+    @State(Scope.Benchmark)
+    public static class Deflate {
+        @Param({"1", "4", "6", "9"})
+        int deflateLevel;
+    }
+
+    @State(Scope.Benchmark)
+    public static class TempFiles {
+        @Param({"false", "true"})
+        boolean compressTempFiles;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        new File("benchmark_data").mkdirs();
+        products = DataGenerator.generateProducts(rowCount);
+        productsEasyExcel = DataGenerator.toEasyExcel(products);
+    }
+
+    @Benchmark
+    public void sheetzWrite() throws Exception {
+        Sheetz.write(products, OutputSizeProfiler.track("benchmark_data/compress_sheetz.xlsx"));
+    }
+
+    @Benchmark
+    public void easyExcelWrite() throws Exception {
+        try (OutputStream out = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/compress_easyexcel.xlsx"))) {
+            ProductIO.easyExcelWrite(productsEasyExcel, out);
+        }
+    }
+
+    @Benchmark
+    public void poiStreamingWrite(Deflate deflate, TempFiles tempFiles) throws Exception {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(100) {
+            @Override
+            protected ZipArchiveOutputStream createArchiveOutputStream(OutputStream out) {
+                ZipArchiveOutputStream zip = super.createArchiveOutputStream(out);
+                zip.setLevel(deflate.deflateLevel);
+                return zip;
+            }
+        };
+        workbook.setCompressTempFiles(tempFiles.compressTempFiles);
+        try {
+            Sheet sheet = workbook.createSheet("Products");
+            Row header = sheet.createRow(0);
+            for (int c = 0; c < ProductIO.HEADERS.length; c++) {
+                header.createCell(c).setCellValue(ProductIO.HEADERS[c]);
+            }
+            for (int i = 0; i < products.size(); i++) {
+                Product p = products.get(i);
+                Row row = sheet.createRow(i + 1);
+                row.createCell(0).setCellValue(p.name);
+                row.createCell(1).setCellValue(p.price);
+                row.createCell(2).setCellValue(p.inStock);
+                row.createCell(3).setCellValue(p.category);
+                row.createCell(4).setCellValue(p.quantity);
+            }
+            try (OutputStream out = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/compress_poi.xlsx"))) {
+                workbook.write(out);
+            }
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    @Benchmark
+    public void fastExcelWrite(Deflate deflate) throws Exception {
+        try (OutputStream os = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/compress_fastexcel.xlsx"))) {
+            Workbook wb = new Workbook(os, "Benchmark", "1.0");
+            wb.setCompressionLevel(deflate.deflateLevel);
+            Worksheet ws = wb.newWorksheet("Products");
+            for (int c = 0; c < ProductIO.HEADERS.length; c++) {
+                ws.value(0, c, ProductIO.HEADERS[c]);
+            }
+            for (int i = 0; i < products.size(); i++) {
+                Product p = products.get(i);
+                int row = i + 1;
+                ws.value(row, 0, p.name);
+                ws.value(row, 1, p.price);
+                ws.value(row, 2, p.inStock.toString());
+                ws.value(row, 3, p.category);
+                ws.value(row, 4, p.quantity);
+            }
+            wb.finish();
+        }
+    }
+}
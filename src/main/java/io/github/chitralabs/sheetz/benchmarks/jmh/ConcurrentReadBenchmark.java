@@ -0,0 +1,80 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.poiji.bind.Poiji;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read throughput with several threads reading at once. Every thread reads its own
+ * copy of the input file. Run it through {@link ScalingRunner} to get the ops/s curve
+ * for 1, 2, 4, 8 and N threads, or pick a thread count with {@code -t}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ConcurrentReadBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rowCount;
+
+    private String testFile;
+
+    @Setup(Level.Trial)
+    public void setup(ThreadParams threadParams) throws Exception {
+        String sharedFile = "benchmark_data/read_" + rowCount + ".xlsx";
+        synchronized (ConcurrentReadBenchmark.class) {
+            if (!new File(sharedFile).exists()) {
+                DataGenerator.generateTestFile(sharedFile, rowCount);
+            }
+        }
+        File threadFile = new File("benchmark_data/threads/read_" + rowCount
+                + "_t" + threadParams.getThreadIndex() + ".xlsx");
+        threadFile.getParentFile().mkdirs();
+        Files.copy(new File(sharedFile).toPath(), threadFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        testFile = threadFile.getPath();
+    }
+
+    @Benchmark
+    public List<Product> sheetzRead() throws Exception {
+        return Sheetz.read(testFile, Product.class);
+    }
+
+    @Benchmark
+    public List<Product> poiRead() throws Exception {
+        try (FileInputStream fis = new FileInputStream(testFile)) {
+            return ProductIO.poiRead(fis);
+        }
+    }
+
+    @Benchmark
+    public List<ProductEasyExcel> easyExcelRead() throws Exception {
+        try (FileInputStream fis = new FileInputStream(testFile)) {
+            return ProductIO.easyExcelRead(fis);
+        }
+    }
+
+    @Benchmark
+    public List<Product> fastExcelRead() throws Exception {
+        try (FileInputStream fis = new FileInputStream(testFile)) {
+            return ProductIO.fastExcelRead(fis);
+        }
+    }
+
+    @Benchmark
+    public List<Product> poijiRead() throws Exception {
+        return Poiji.fromExcel(new File(testFile), Product.class);
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write throughput with several threads exporting at once. Every thread has its own
+ * data set and its own output files. Run it through {@link ScalingRunner} to get the
+ * ops/s curve for 1, 2, 4, 8 and N threads, or pick a thread count with {@code -t}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ConcurrentWriteBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rowCount;
+
+    private List<Product> products;
+    private List<ProductEasyExcel> productsEasyExcel;
+    private String outputPrefix;
+
+    @Setup(Level.Trial)
+    public void setup(ThreadParams threadParams) {
+        new File("benchmark_data/threads").mkdirs();
+        products = DataGenerator.generateProducts(rowCount);
+        productsEasyExcel = DataGenerator.toEasyExcel(products);
+        outputPrefix = "benchmark_data/threads/t" + threadParams.getThreadIndex() + "_";
+    }
+
+    @Benchmark
+    public void sheetzWrite() throws Exception {
+        Sheetz.write(products, OutputSizeProfiler.track(outputPrefix + "sheetz.xlsx"));
+    }
+
+    @Benchmark
+    public void poiWrite() throws Exception {
+        try (OutputStream os = new FileOutputStream(OutputSizeProfiler.track(outputPrefix + "poi.xlsx"))) {
+            ProductIO.poiWrite(products, os);
+        }
+    }
+
+    @Benchmark
+    public void easyExcelWrite() throws Exception {
+        try (OutputStream os = new FileOutputStream(OutputSizeProfiler.track(outputPrefix + "easyexcel.xlsx"))) {
+            ProductIO.easyExcelWrite(productsEasyExcel, os);
+        }
+    }
+
+    @Benchmark
+    public void fastExcelWrite() throws Exception {
+        try (OutputStream os = new FileOutputStream(OutputSizeProfiler.track(outputPrefix + "fastexcel.xlsx"))) {
+            ProductIO.fastExcelWrite(products, os);
+        }
+    }
+}
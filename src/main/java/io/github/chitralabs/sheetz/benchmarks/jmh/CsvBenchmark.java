@@ -0,0 +1,304 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.read.listener.ReadListener;
+import com.alibaba.excel.support.ExcelTypeEnum;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV read and write with the same {@link DataGenerator} rows as {@link ReadBenchmark}
+ * and {@link WriteBenchmark}, so each format's cost can be compared at the same row count.
+ * Sheetz picks CSV from the file extension. EasyExcel has a CSV mode
+ * ({@link ExcelTypeEnum#CSV}). The baselines are hand-written RFC 4180 code with no
+ * library: {@code buffered*} uses {@link BufferedReader}/{@link BufferedWriter} on chars,
+ * {@code nio*} uses a {@link FileChannel} with a 64 KB buffer and parses UTF-8 bytes
+ * directly. Both quote fields only when needed and find the columns by header name.
+ * Together they mark the floor that binding and format detection add to.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CsvBenchmark {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Param({"1000", "10000", "100000"})
+    private int rowCount;
+
+    private String testFile;
+    private List<Product> products;
+    private List<ProductEasyExcel> productsEasyExcel;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        new File("benchmark_data").mkdirs();
+        testFile = "benchmark_data/read_" + rowCount + ".csv";
+        if (!new File(testFile).exists()) {
+            DataGenerator.generateTestFile(testFile, rowCount);
+        }
+        products = DataGenerator.generateProducts(rowCount);
+        productsEasyExcel = DataGenerator.toEasyExcel(products);
+    }
+
+    // ── Read ───────────────────────────────────────────
+
+    @Benchmark
+    public List<Product> sheetzRead() throws Exception {
+        return Sheetz.read(testFile, Product.class);
+    }
+
+    @Benchmark
+    public List<ProductEasyExcel> easyExcelRead() {
+        List<ProductEasyExcel> result = new ArrayList<>();
+        EasyExcel.read(testFile, ProductEasyExcel.class, new ReadListener<ProductEasyExcel>() {
+            @Override
+            public void invoke(ProductEasyExcel data, AnalysisContext context) {
+                result.add(data);
+            }
+
+            @Override
+            public void doAfterAllAnalysed(AnalysisContext context) {
+            }
+        }).excelType(ExcelTypeEnum.CSV).sheet().doRead();
+        return result;
+    }
+
+    @Benchmark
+    public List<Product> bufferedRead() throws Exception {
+        List<Product> result = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(testFile), StandardCharsets.UTF_8)) {
+            List<String> fields = new ArrayList<>(ProductIO.HEADERS.length);
+            int[] columns = null;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                // a quoted field may span lines
+                while (!splitLine(line, fields)) {
+                    String next = reader.readLine();
+                    if (next == null) throw new IOException("Unterminated quoted field in " + testFile);
+                    line = line + "\n" + next;
+                }
+                if (columns == null) {
+                    columns = columnIndexes(fields);
+                } else {
+                    result.add(product(fields, columns));
+                }
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Product> nioRead() throws Exception {
+        List<Product> result = new ArrayList<>();
+        List<String> fields = new ArrayList<>(ProductIO.HEADERS.length);
+        int[] columns = null;
+        byte[] field = new byte[256];
+        int length = 0;
+        boolean inQuotes = false;
+        boolean afterQuote = false; // inside quotes, the previous byte was '"'
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(Paths.get(testFile), StandardOpenOption.READ)) {
+            boolean eof = false;
+            while (!eof) {
+                buffer.clear();
+                eof = channel.read(buffer) < 0;
+                buffer.flip();
+                while (buffer.hasRemaining() || eof) {
+                    int b = buffer.hasRemaining() ? buffer.get() : -1;
+                    if (inQuotes) {
+                        if (!afterQuote) {
+                            if (b == -1) throw new IOException("Unterminated quoted field in " + testFile);
+                            if (b == '"') {
+                                afterQuote = true;
+                                continue;
+                            }
+                        } else {
+                            afterQuote = false;
+                            inQuotes = b == '"'; // "" is an escaped quote, anything else closes the field
+                        }
+                        if (inQuotes) {
+                            if (length == field.length) field = Arrays.copyOf(field, length * 2);
+                            field[length++] = (byte) b;
+                            continue;
+                        }
+                    } else if (b == '"' && length == 0) {
+                        inQuotes = true;
+                        continue;
+                    }
+                    if (b == ',' || b == '\n' || b == -1) {
+                        if (b == -1 && length == 0 && fields.isEmpty()) break;
+                        fields.add(new String(field, 0, length, StandardCharsets.UTF_8));
+                        length = 0;
+                        if (b != ',') {
+                            if (columns == null) {
+                                columns = columnIndexes(fields);
+                            } else {
+                                result.add(product(fields, columns));
+                            }
+                            fields.clear();
+                        }
+                        if (b == -1) break;
+                    } else if (b != '\r') {
+                        if (length == field.length) field = Arrays.copyOf(field, length * 2);
+                        field[length++] = (byte) b;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    // ── Write ──────────────────────────────────────────
+
+    @Benchmark
+    public void sheetzWrite() throws Exception {
+        Sheetz.write(products, OutputSizeProfiler.track("benchmark_data/write_sheetz.csv"));
+    }
+
+    @Benchmark
+    public void easyExcelWrite() {
+        EasyExcel.write(OutputSizeProfiler.track("benchmark_data/write_easyexcel.csv"), ProductEasyExcel.class)
+                .excelType(ExcelTypeEnum.CSV)
+                .sheet("Products")
+                .doWrite(productsEasyExcel);
+    }
+
+    @Benchmark
+    public void bufferedWrite() throws Exception {
+        Path path = Paths.get(OutputSizeProfiler.track("benchmark_data/write_buffered.csv"));
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            StringBuilder line = new StringBuilder(128);
+            appendRow(line, (Object[]) ProductIO.HEADERS);
+            writer.append(line);
+            for (Product p : products) {
+                line.setLength(0);
+                appendRow(line, p.name, p.price, p.inStock, p.category, p.quantity);
+                writer.append(line);
+            }
+        }
+    }
+
+    @Benchmark
+    public void nioWrite() throws Exception {
+        Path path = Paths.get(OutputSizeProfiler.track("benchmark_data/write_nio.csv"));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            StringBuilder line = new StringBuilder(128);
+            appendRow(line, (Object[]) ProductIO.HEADERS);
+            put(channel, buffer, line);
+            for (Product p : products) {
+                line.setLength(0);
+                appendRow(line, p.name, p.price, p.inStock, p.category, p.quantity);
+                put(channel, buffer, line);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) channel.write(buffer);
+        }
+    }
+
+    // ── CSV helpers ────────────────────────────────────
+
+    /**
+     * Splits one record into {@code fields}. Returns {@code false} if the line ends inside
+     * a quoted field, so the caller appends the next line and splits again.
+     */
+    private static boolean splitLine(String line, List<String> fields) {
+        fields.clear();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c != '\r') {
+                field.append(c);
+            }
+        }
+        if (quoted) return false;
+        fields.add(field.toString());
+        return true;
+    }
+
+    private static int[] columnIndexes(List<String> header) {
+        int[] columns = new int[ProductIO.HEADERS.length];
+        for (int c = 0; c < columns.length; c++) {
+            columns[c] = header.indexOf(ProductIO.HEADERS[c]);
+            if (columns[c] < 0) {
+                throw new IllegalArgumentException("No column \"" + ProductIO.HEADERS[c] + "\" in " + header);
+            }
+        }
+        return columns;
+    }
+
+    private static Product product(List<String> fields, int[] columns) {
+        Product p = new Product();
+        p.name = fields.get(columns[0]);
+        p.price = Double.parseDouble(fields.get(columns[1]));
+        p.inStock = Boolean.parseBoolean(fields.get(columns[2]));
+        p.category = fields.get(columns[3]);
+        p.quantity = (int) Double.parseDouble(fields.get(columns[4]));
+        return p;
+    }
+
+    private static void appendRow(StringBuilder line, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) line.append(',');
+            String value = String.valueOf(values[i]);
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                line.append(value);
+            } else {
+                line.append('"').append(value.replace("\"", "\"\"")).append('"');
+            }
+        }
+        line.append("\r\n");
+    }
+
+    private static void put(FileChannel channel, ByteBuffer buffer, CharSequence line) throws IOException {
+        byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+        if (buffer.remaining() < bytes.length) {
+            buffer.flip();
+            while (buffer.hasRemaining()) channel.write(buffer);
+            buffer.clear();
+        }
+        if (bytes.length > buffer.capacity()) {
+            channel.write(ByteBuffer.wrap(bytes));
+        } else {
+            buffer.put(bytes);
+        }
+    }
+}
@@ -1,17 +1,47 @@
 package io.github.chitralabs.sheetz.benchmarks.jmh;
 
 import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.WorkbookBuilder;
 import io.github.chitralabs.sheetz.benchmarks.model.Product;
 import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import io.github.chitralabs.sheetz.benchmarks.model.wide.ColumnType;
+import io.github.chitralabs.sheetz.benchmarks.model.wide.WideSchema;
+import io.github.chitralabs.sheetz.benchmarks.model.wide.WideStatus;
 
 import java.io.File;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Generates test data for benchmarks.
+ *
+ * <p>{@link #generateProducts} materializes a list. {@link #productIterator},
+ * {@link #productStream} and {@link #lazyProducts} produce the same rows on demand,
+ * so that very large write benchmarks do not hold the fixture in heap.
+ *
+ * <p>{@link StringProfile} varies the text columns (name, category) for the
+ * shared-strings benchmarks. Without a profile, names are unique and categories take
+ * five values.
+ *
+ * <p>{@link #generateSparseProducts} blanks a given share of the data cells, for feeds
+ * where most cells are empty. {@link #generateInvalidProducts} breaks a given share
+ * of rows, for the validation benchmarks.
+ *
+ * <p>{@link #generateWideRows} and {@link #toWideModels} fill the generated models in
+ * {@code model.wide} for a given column count and {@link WideSchema.TypeMix}.
  */
 public class DataGenerator {
 
@@ -26,29 +56,341 @@ public class DataGenerator {
             "Electronics", "Accessories", "Audio", "Furniture", "Office"
     };
 
+    private static final String[] WORDS = {
+            "shipped", "order", "customer", "warehouse", "returned", "invoice", "delivery", "pending",
+            "priority", "express", "regional", "account", "batch", "contract", "approved", "quarterly",
+            "inventory", "supplier", "discount", "backorder", "partial", "confirmed", "address", "notes"
+    };
+
+    /** Content of the text columns, from which the shared-strings table (SST) is built. */
+    public enum StringProfile {
+        /** Every name and category is distinct: the SST holds two entries per row. */
+        UNIQUE,
+        /** Names from 20 values, categories from 5: a tiny SST, heavily reused. */
+        LOW_CARDINALITY,
+        /** Distinct ~200-character free-text names: one long SST entry per row, far more bytes than UNIQUE. */
+        LONG_TEXT,
+        /** Digit-only codes (IDs, account numbers) stored as text: short, mostly distinct. */
+        MOSTLY_NUMERIC
+    }
+
     public static List<Product> generateProducts(int count) {
+        return generateProducts(count, null);
+    }
+
+    /** {@link #generateProducts(int)} with the text columns shaped by {@code profile}; {@code null} for the default. */
+    public static List<Product> generateProducts(int count, StringProfile profile) {
         List<Product> products = new ArrayList<>(count);
-        Random random = new Random(42); // fixed seed for reproducibility
-        for (int i = 0; i < count; i++) {
-            products.add(new Product(
-                    PRODUCT_NAMES[random.nextInt(PRODUCT_NAMES.length)] + " Model-" + i,
-                    Math.round((10.0 + random.nextDouble() * 990.0) * 100.0) / 100.0,
-                    random.nextBoolean(),
-                    CATEGORIES[random.nextInt(CATEGORIES.length)],
-                    random.nextInt(500)
-            ));
+        new ProductIterator(count, profile).forEachRemaining(products::add);
+        return products;
+    }
+
+    /**
+     * {@link #generateProducts(int)} with {@code sparsity} percent of the data cells set to
+     * {@code null} (expected share, over all five columns). Every cell is blanked
+     * independently, so some rows end up entirely blank, as in a real sparse feed: about
+     * 59% of them at 90.
+     */
+    public static List<Product> generateSparseProducts(int count, int sparsity) {
+        if (sparsity < 0 || sparsity > 100) {
+            throw new IllegalArgumentException("sparsity must be 0..100: " + sparsity);
+        }
+        double blankProbability = sparsity / 100.0;
+        List<Product> products = generateProducts(count);
+        Random random = new Random(7); // separate seed, so the values that remain match generateProducts
+        for (Product p : products) {
+            if (random.nextDouble() < blankProbability) p.name = null;
+            if (random.nextDouble() < blankProbability) p.price = null;
+            if (random.nextDouble() < blankProbability) p.inStock = null;
+            if (random.nextDouble() < blankProbability) p.category = null;
+            if (random.nextDouble() < blankProbability) p.quantity = null;
+        }
+        return products;
+    }
+
+    /**
+     * {@link #generateProducts(int)} with {@code invalidPercent} percent of the rows broken in
+     * one of four ways, in turn: a missing name, a negative price, a quantity above 10,000,
+     * or a name that does not match the {@code "<Word> Model-<n>"} pattern.
+     */
+    public static List<Product> generateInvalidProducts(int count, int invalidPercent) {
+        List<Product> products = generateProducts(count);
+        Random random = new Random(11); // separate seed, so the valid rows match generateProducts
+        int broken = 0;
+        for (Product p : products) {
+            if (random.nextInt(100) >= invalidPercent) continue;
+            switch (broken++ % 4) {
+                case 0:
+                    p.name = null;
+                    break;
+                case 1:
+                    p.price = -p.price;
+                    break;
+                case 2:
+                    p.quantity = 100_000 + p.quantity;
+                    break;
+                default:
+                    p.name = p.name.toLowerCase().replace(' ', '_');
+                    break;
+            }
         }
         return products;
     }
 
+    /** Lazily yields the same rows as {@link #generateProducts}, one at a time. */
+    public static Iterator<Product> productIterator(int count) {
+        return new ProductIterator(count, null);
+    }
+
+    /** Lazily yields the same rows as {@link #generateProducts}, one at a time. */
+    public static Stream<Product> productStream(int count) {
+        return StreamSupport.stream(Spliterators.spliterator(productIterator(count), count,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    /**
+     * A read-only {@link List} view of the same rows as {@link #generateProducts} that
+     * creates each element when it is requested, for APIs that only accept a list.
+     * Sequential access is O(1) per element. Going backwards regenerates from the start.
+     * Not thread-safe: each list is read by the single thread that writes it, so no lock
+     * is paid per row.
+     */
+    public static List<Product> lazyProducts(int count) {
+        return new LazyProductList(count);
+    }
+
     public static List<ProductEasyExcel> toEasyExcel(List<Product> products) {
         return products.stream()
-                .map(p -> new ProductEasyExcel(p.name, p.price, p.inStock, p.category, p.quantity))
+                .map(DataGenerator::toEasyExcel)
                 .collect(Collectors.toList());
     }
 
+    public static ProductEasyExcel toEasyExcel(Product p) {
+        return new ProductEasyExcel(p.name, p.price, p.inStock, p.category, p.quantity);
+    }
+
     public static void generateTestFile(String path, int rowCount) throws Exception {
         new File(path).getParentFile().mkdirs();
-        Sheetz.write(generateProducts(rowCount), path);
+        Sheetz.write(lazyProducts(rowCount), path);
+    }
+
+    public static void generateTestFile(String path, int rowCount, StringProfile profile) throws Exception {
+        new File(path).getParentFile().mkdirs();
+        Sheetz.write(generateProducts(rowCount, profile), path);
+    }
+
+    public static void generateSparseTestFile(String path, int rowCount, int sparsity) throws Exception {
+        new File(path).getParentFile().mkdirs();
+        Sheetz.write(generateSparseProducts(rowCount, sparsity), path);
+    }
+
+    public static void generateInvalidTestFile(String path, int rowCount, int invalidPercent) throws Exception {
+        new File(path).getParentFile().mkdirs();
+        Sheetz.write(generateInvalidProducts(rowCount, invalidPercent), path);
+    }
+
+    /** A workbook of {@code sheets} sheets, each holding the first {@code rowsPerSheet} rows. */
+    public static void generateMultiSheetTestFile(String path, int sheets, int rowsPerSheet) throws Exception {
+        new File(path).getParentFile().mkdirs();
+        WorkbookBuilder workbook = Sheetz.workbook();
+        for (int s = 0; s < sheets; s++) {
+            workbook.sheet("Sheet " + (s + 1), lazyProducts(rowsPerSheet));
+        }
+        workbook.write(path);
+    }
+
+    /**
+     * {@link #generateTestFile} in a separate JVM, for benchmarks that must not load
+     * any spreadsheet library classes before they measure.
+     */
+    public static void generateTestFileForked(String path, int rowCount) throws Exception {
+        Process process = new ProcessBuilder(
+                System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+                "-cp", System.getProperty("java.class.path"),
+                DataGenerator.class.getName(), path, String.valueOf(rowCount))
+                .inheritIO()
+                .start();
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("Generating " + path + " failed with exit code " + process.exitValue());
+        }
+    }
+
+    // ── Wide models ────────────────────────────────────
+
+    /** Typed cell values, one array per row, for the given column types. */
+    public static Object[][] generateWideRows(ColumnType[] columns, int count) {
+        Random random = new Random(42); // fixed seed for reproducibility
+        LocalDate firstDay = LocalDate.of(2020, 1, 1);
+        LocalDateTime firstInstant = firstDay.atStartOfDay();
+        WideStatus[] statuses = WideStatus.values();
+        Object[][] rows = new Object[count][];
+        for (int i = 0; i < count; i++) {
+            Object[] row = new Object[columns.length];
+            for (int c = 0; c < columns.length; c++) {
+                if (columns[c].nullable() && random.nextInt(5) == 0) {
+                    continue;
+                }
+                switch (columns[c]) {
+                    case STRING:
+                    case NULLABLE_STRING:
+                        row[c] = PRODUCT_NAMES[random.nextInt(PRODUCT_NAMES.length)] + " " + random.nextInt(100_000);
+                        break;
+                    case INTEGER:
+                        row[c] = random.nextInt(100_000);
+                        break;
+                    case DOUBLE:
+                    case NULLABLE_DOUBLE:
+                        row[c] = Math.round(random.nextDouble() * 1_000_000.0) / 100.0;
+                        break;
+                    case BOOLEAN:
+                        row[c] = random.nextBoolean();
+                        break;
+                    case BIG_DECIMAL:
+                        row[c] = BigDecimal.valueOf(random.nextInt(10_000_000), 2);
+                        break;
+                    case LOCAL_DATE:
+                        row[c] = firstDay.plusDays(random.nextInt(2_000));
+                        break;
+                    case LOCAL_DATE_TIME:
+                        row[c] = firstInstant.plusSeconds(random.nextInt(2_000 * 86_400));
+                        break;
+                    case ENUM:
+                        row[c] = statuses[random.nextInt(statuses.length)];
+                        break;
+                }
+            }
+            rows[i] = row;
+        }
+        return rows;
+    }
+
+    /** Binds rows from {@link #generateWideRows} to a generated model, column {@code i} to field {@code c00i}. */
+    public static <T> List<T> toWideModels(Class<T> modelClass, Object[][] rows) {
+        try {
+            Field[] fields = new Field[rows.length == 0 ? 0 : rows[0].length];
+            for (int c = 0; c < fields.length; c++) {
+                fields[c] = modelClass.getDeclaredField(WideSchema.header(c));
+                fields[c].setAccessible(true);
+            }
+            List<T> models = new ArrayList<>(rows.length);
+            for (Object[] row : rows) {
+                T model = modelClass.getDeclaredConstructor().newInstance();
+                for (int c = 0; c < fields.length; c++) {
+                    fields[c].set(model, row[c]);
+                }
+                models.add(model);
+            }
+            return models;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot bind rows to " + modelClass.getName(), e);
+        }
+    }
+
+    public static void generateWideTestFile(String path, int columnCount, WideSchema.TypeMix mix, int rowCount) throws Exception {
+        new File(path).getParentFile().mkdirs();
+        Object[][] rows = generateWideRows(WideSchema.columns(columnCount, mix), rowCount);
+        Sheetz.write(toWideModels(WideSchema.modelClass(columnCount, mix), rows), path);
+    }
+
+    /** {@code DataGenerator <path> <rowCount>} */
+    public static void main(String[] args) throws Exception {
+        generateTestFile(args[0], Integer.parseInt(args[1]));
+    }
+
+    private static final class ProductIterator implements Iterator<Product> {
+        private final int count;
+        private final StringProfile profile;
+        private final Random random = new Random(42); // fixed seed for reproducibility
+        private final Random textRandom = new Random(13); // profile-only draws, so the numeric columns match across profiles
+        private final StringBuilder text = new StringBuilder();
+        private int i;
+
+        ProductIterator(int count, StringProfile profile) {
+            this.count = count;
+            this.profile = profile;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return i < count;
+        }
+
+        @Override
+        public Product next() {
+            if (i >= count) {
+                throw new NoSuchElementException();
+            }
+            Product product = new Product(
+                    name(),
+                    Math.round((10.0 + random.nextDouble() * 990.0) * 100.0) / 100.0,
+                    random.nextBoolean(),
+                    CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    random.nextInt(500)
+            );
+            if (profile == StringProfile.UNIQUE) {
+                product.category = product.category + "-" + i;
+            } else if (profile == StringProfile.MOSTLY_NUMERIC) {
+                product.category = String.valueOf(100 + textRandom.nextInt(CATEGORIES.length));
+            }
+            i++;
+            return product;
+        }
+
+        private String name() {
+            String base = PRODUCT_NAMES[random.nextInt(PRODUCT_NAMES.length)];
+            if (profile == null || profile == StringProfile.UNIQUE) {
+                return base + " Model-" + i;
+            }
+            switch (profile) {
+                case LOW_CARDINALITY:
+                    return base;
+                case LONG_TEXT:
+                    text.setLength(0);
+                    text.append(base).append(" #").append(i);
+                    while (text.length() < 200) {
+                        text.append(' ').append(WORDS[textRandom.nextInt(WORDS.length)]);
+                    }
+                    return text.toString();
+                case MOSTLY_NUMERIC:
+                    return String.format("%010d", (long) i * 7919 + textRandom.nextInt(7919));
+                default:
+                    throw new IllegalArgumentException("Unknown profile " + profile);
+            }
+        }
+    }
+
+    private static final class LazyProductList extends AbstractList<Product> {
+        private final int count;
+        private Iterator<Product> cursor;
+        private int next;
+        private Product last;
+
+        LazyProductList(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public Product get(int index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+            }
+            if (index == next - 1) {
+                return last;
+            }
+            if (cursor == null || index < next) {
+                cursor = productIterator(count);
+                next = 0;
+            }
+            while (next <= index) {
+                last = cursor.next();
+                next++;
+            }
+            return last;
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
     }
 }
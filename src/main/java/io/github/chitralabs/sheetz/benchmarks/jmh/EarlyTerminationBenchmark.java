@@ -0,0 +1,135 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.exception.ExcelAnalysisStopException;
+import com.alibaba.excel.read.listener.ReadListener;
+import com.poiji.bind.Poiji;
+import com.poiji.option.PoijiOptions;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import io.github.chitralabs.sheetz.reader.StreamingReader;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.dhatim.fastexcel.reader.ReadableWorkbook;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads only the first {@code previewRows} rows of a large sheet, the way a preview
+ * does: stream {@code limit()} for Sheetz and FastExcel, a listener that throws
+ * {@link ExcelAnalysisStopException} for EasyExcel, Poiji's {@code limit} option, and a
+ * {@link PoiEventReader} handler that returns {@code false}. POI's usermodel has no way
+ * to stop early and is included as the cost of loading the whole file.
+ *
+ * <p>Compare with {@code ReadBenchmark} at the same {@code rowCount}. A score that does
+ * not drop well below the full read means the library still parses (or loads) the rest
+ * of the file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EarlyTerminationBenchmark {
+
+    @Param({"100000"})
+    private int rowCount;
+
+    @Param({"1000"})
+    private int previewRows;
+
+    private String testFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        testFile = "benchmark_data/read_" + rowCount + ".xlsx";
+        if (!new File(testFile).exists()) {
+            DataGenerator.generateTestFile(testFile, rowCount);
+        }
+    }
+
+    @Benchmark
+    public List<Product> sheetzPreview() throws Exception {
+        try (StreamingReader<Product> reader = Sheetz.stream(testFile, Product.class)) {
+            return reader.stream().limit(previewRows).collect(Collectors.toList());
+        }
+    }
+
+    @Benchmark
+    public List<Product> fastExcelPreview() throws Exception {
+        try (FileInputStream fis = new FileInputStream(testFile);
+             ReadableWorkbook wb = new ReadableWorkbook(fis);
+             Stream<org.dhatim.fastexcel.reader.Row> rows = wb.getFirstSheet().openStream()) {
+            return rows.skip(1).limit(previewRows).map(ProductIO::fastExcelProduct).collect(Collectors.toList());
+        }
+    }
+
+    @Benchmark
+    public List<ProductEasyExcel> easyExcelPreview() {
+        List<ProductEasyExcel> result = new ArrayList<>(previewRows);
+        EasyExcel.read(testFile, ProductEasyExcel.class, new ReadListener<ProductEasyExcel>() {
+            @Override
+            public void invoke(ProductEasyExcel data, AnalysisContext context) {
+                result.add(data);
+                if (result.size() == previewRows) {
+                    throw new ExcelAnalysisStopException();
+                }
+            }
+
+            @Override
+            public void doAfterAllAnalysed(AnalysisContext context) {
+            }
+        }).sheet().doRead();
+        return result;
+    }
+
+    @Benchmark
+    public List<Product> poijiPreview() {
+        return Poiji.fromExcel(new File(testFile), Product.class,
+                PoijiOptions.PoijiOptionsBuilder.settings().limit(previewRows).build());
+    }
+
+    @Benchmark
+    public List<String[]> poiEventPreview() throws Exception {
+        List<String[]> result = new ArrayList<>(previewRows);
+        PoiEventReader.read(testFile, ProductIO.HEADERS.length, (rowNum, cells) -> {
+            if (rowNum == 0) return true;
+            result.add(cells.clone());
+            return result.size() < previewRows;
+        });
+        return result;
+    }
+
+    @Benchmark
+    public List<Product> poiPreview() throws Exception {
+        List<Product> result = new ArrayList<>(previewRows);
+        try (FileInputStream fis = new FileInputStream(testFile);
+             Workbook workbook = new XSSFWorkbook(fis)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            for (int i = 1; i <= Math.min(previewRows, sheet.getLastRowNum()); i++) {
+                Row row = sheet.getRow(i);
+                if (row == null) continue;
+                Product p = new Product();
+                p.name = row.getCell(0).getStringCellValue();
+                p.price = row.getCell(1).getNumericCellValue();
+                p.inStock = row.getCell(2).getBooleanCellValue();
+                p.category = row.getCell(3).getStringCellValue();
+                p.quantity = (int) row.getCell(4).getNumericCellValue();
+                result.add(p);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.runner.IterationType;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * JMH profiler that records the measurement iterations of each benchmark and parameter
+ * combination with JDK Flight Recorder (the {@code profile} settings). Warmup and setup
+ * are not recorded. It writes {@code results/jfr/<Benchmark.method>[_param-value...].jfr},
+ * and next to it a {@link JfrSummary} with the top CPU methods, allocation sites and
+ * contended locks. With several forks the last fork's recording is kept.
+ *
+ * <pre>java -jar target/benchmarks.jar ReadBenchmark -prof io.github.chitralabs.sheetz.benchmarks.jmh.FlightRecorderProfiler</pre>
+ *
+ * {@link BenchmarkRunner} attaches it with {@code -jfr}. Open the {@code .jfr} file in
+ * JDK Mission Control for flame graphs and full stacks.
+ */
+public class FlightRecorderProfiler implements InternalProfiler {
+
+    static final String JFR_DIR = "results/jfr";
+
+    /** Monitor and park events shorter than this are dropped. The {@code profile} default is 10 ms. */
+    private static final Duration LOCK_THRESHOLD = Duration.ofMillis(1);
+
+    private Recording recording;
+    private int measurementIterations;
+
+    @Override
+    public String getDescription() {
+        return "JFR recording of the measurement iterations, with a hot-method summary";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        if (iterationParams.getType() != IterationType.MEASUREMENT || recording != null) {
+            return;
+        }
+        try {
+            recording = new Recording(Configuration.getConfiguration("profile"));
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot load the JFR 'profile' settings", e);
+        }
+        recording.enable("jdk.JavaMonitorEnter").withThreshold(LOCK_THRESHOLD).withStackTrace();
+        recording.enable("jdk.ThreadPark").withThreshold(LOCK_THRESHOLD).withStackTrace();
+        recording.start();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+                                                       IterationParams iterationParams,
+                                                       IterationResult result) {
+        if (iterationParams.getType() != IterationType.MEASUREMENT
+                || ++measurementIterations < iterationParams.getCount()) {
+            return Collections.emptyList();
+        }
+        recording.stop();
+        try {
+            new File(JFR_DIR).mkdirs();
+            String name = fileName(benchmarkParams);
+            File jfr = new File(JFR_DIR, name + ".jfr");
+            recording.dump(jfr.toPath());
+            JfrSummary.write(jfr.toPath(), new File(JFR_DIR, name + ".txt"), benchmarkParams.id());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            recording.close();
+        }
+        return Collections.emptyList();
+    }
+
+    /** {@code ReadBenchmark.sheetzRead_rowCount-1000}: the benchmark short name plus every parameter. */
+    static String fileName(BenchmarkParams params) {
+        StringBuilder name = new StringBuilder(BenchmarkRunner.shortName(params.getBenchmark()));
+        for (String key : params.getParamsKeys()) {
+            name.append('_').append(key).append('-').append(params.getParam(key));
+        }
+        return name.toString().replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+}
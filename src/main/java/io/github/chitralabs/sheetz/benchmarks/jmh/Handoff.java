@@ -0,0 +1,105 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded hand-off between a producer thread and a consumer thread. The producer
+ * {@link #put}s rows, which travel in batches through a queue of at most
+ * {@code capacity} batches. The consumer iterates. A full queue blocks the producer,
+ * so at most {@code (capacity + 2) * batchSize} rows are in flight.
+ */
+final class Handoff<T> implements Iterator<T> {
+
+    private static final List<Object> END = Collections.emptyList();
+
+    private final BlockingQueue<List<T>> queue;
+    private final int batchSize;
+    private List<T> filling;
+    private List<T> draining = Collections.emptyList();
+    private int next;
+    private boolean ended;
+    private volatile Throwable failure;
+
+    Handoff(int capacity, int batchSize) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.filling = new ArrayList<>(batchSize);
+    }
+
+    // ── Producer side ──────────────────────────────────
+
+    void put(T row) {
+        filling.add(row);
+        if (filling.size() == batchSize) {
+            enqueue(filling);
+            filling = new ArrayList<>(batchSize);
+        }
+    }
+
+    /** Sends the last partial batch and the end marker. */
+    void finish() {
+        if (!filling.isEmpty()) {
+            enqueue(filling);
+        }
+        enqueue(end());
+    }
+
+    /** Ends the stream with an error that the consumer rethrows. */
+    void fail(Throwable t) {
+        failure = t;
+        enqueue(end());
+    }
+
+    private void enqueue(List<T> batch) {
+        try {
+            queue.put(batch);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Hand-off interrupted", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> end() {
+        return (List<T>) (List<?>) END;
+    }
+
+    // ── Consumer side ──────────────────────────────────
+
+    @Override
+    public boolean hasNext() {
+        while (next == draining.size()) {
+            if (ended) {
+                return false;
+            }
+            try {
+                draining = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Hand-off interrupted", e);
+            }
+            next = 0;
+            if (draining == END) {
+                ended = true;
+                if (failure != null) {
+                    throw new IllegalStateException("Producer failed", failure);
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return draining.get(next++);
+    }
+}
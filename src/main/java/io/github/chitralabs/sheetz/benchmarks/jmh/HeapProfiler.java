@@ -0,0 +1,90 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JMH profiler that reports heap footprint per iteration:
+ * <ul>
+ *   <li>{@code heap.peak} — sum of the heap pools' peak usage (an upper bound, garbage included)</li>
+ *   <li>{@code heap.live} — largest heap occupancy observed right after a GC (the retained set)</li>
+ * </ul>
+ * A reader that really streams keeps {@code heap.live} flat as the row count grows.
+ *
+ * <pre>java -jar target/benchmarks.jar StreamingReadBenchmark -prof io.github.chitralabs.sheetz.benchmarks.jmh.HeapProfiler</pre>
+ */
+public class HeapProfiler implements InternalProfiler {
+
+    private static final double MB = 1024.0 * 1024.0;
+
+    private final List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+    private final AtomicLong maxLiveBytes = new AtomicLong();
+
+    public HeapProfiler() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                heapPools.add(pool);
+            }
+        }
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gc instanceof NotificationEmitter) {
+                ((NotificationEmitter) gc).addNotificationListener((notification, handback) -> {
+                    if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                        return;
+                    }
+                    GarbageCollectionNotificationInfo info =
+                            GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                    long used = 0;
+                    for (MemoryUsage usage : info.getGcInfo().getMemoryUsageAfterGc().values()) {
+                        used += usage.getUsed();
+                    }
+                    maxLiveBytes.accumulateAndGet(used, Math::max);
+                }, null, null);
+            }
+        }
+    }
+
+    @Override
+    public String getDescription() {
+        return "Peak and post-GC heap occupancy per iteration";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        System.gc();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        maxLiveBytes.set(0);
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+                                                       IterationParams iterationParams,
+                                                       IterationResult result) {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            peak += pool.getPeakUsage().getUsed();
+        }
+        return Arrays.asList(
+                new ScalarResult("heap.peak", peak / MB, "MB", AggregationPolicy.MAX),
+                new ScalarResult("heap.live", maxLiveBytes.get() / MB, "MB", AggregationPolicy.MAX));
+    }
+}
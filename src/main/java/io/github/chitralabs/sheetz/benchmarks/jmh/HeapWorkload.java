@@ -0,0 +1,86 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Child process for {@link MinHeapFinder}: runs one benchmark method once, outside JMH,
+ * with only the fixture that method uses, and prints the peak heap and peak RSS of this JVM.
+ *
+ * <pre>HeapWorkload WriteBenchmark poiWrite 100000</pre>
+ */
+public class HeapWorkload {
+
+    static final String RESULT_PREFIX = "FOOTPRINT ";
+
+    public static void main(String[] args) throws Exception {
+        Class<?> type = Class.forName(HeapWorkload.class.getPackage().getName() + "." + args[0]);
+        Object benchmark = type.getDeclaredConstructor().newInstance();
+        int rows = Integer.parseInt(args[2]);
+        Field rowCount = type.getDeclaredField("rowCount");
+        rowCount.setAccessible(true);
+        rowCount.setInt(benchmark, rows);
+
+        setup(type, benchmark, args[1], rows);
+        Method operation = type.getMethod(args[1]);
+        operation.invoke(benchmark);
+
+        long peakHeap = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peakHeap += pool.getPeakUsage().getUsed();
+            }
+        }
+        System.out.println(RESULT_PREFIX + (peakHeap >> 20) + " " + peakRssMb());
+    }
+
+    /**
+     * Builds only the fixture the operation uses. {@code WriteBenchmark.setup} builds both the
+     * {@code Product} list and its EasyExcel copy, which would charge every write for a copy
+     * only {@code easyExcelWrite} reads. Here each write gets its own list, the EasyExcel one
+     * converted from a lazy source so that no {@code Product} list is held next to it.
+     */
+    private static void setup(Class<?> type, Object benchmark, String operation, int rows) throws Exception {
+        if (type != WriteBenchmark.class) {
+            type.getMethod("setup").invoke(benchmark);
+            return;
+        }
+        new File("benchmark_data").mkdirs();
+        if (operation.startsWith("easyExcel")) {
+            set(benchmark, "productsEasyExcel", DataGenerator.toEasyExcel(DataGenerator.lazyProducts(rows)));
+        } else {
+            set(benchmark, "products", DataGenerator.generateProducts(rows));
+        }
+    }
+
+    private static void set(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    /** Peak resident set size from {@code /proc/self/status} (Linux only), or -1. */
+    private static long peakRssMb() {
+        Path status = Paths.get("/proc/self/status");
+        if (!Files.isReadable(status)) {
+            return -1;
+        }
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmHWM:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", "")) >> 10;
+                }
+            }
+        } catch (Exception ignored) {
+            // fall through
+        }
+        return -1;
+    }
+}
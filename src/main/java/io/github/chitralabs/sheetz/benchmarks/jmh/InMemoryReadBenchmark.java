@@ -0,0 +1,89 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.poiji.bind.Poiji;
+import com.poiji.exception.PoijiExcelType;
+import io.github.chitralabs.sheetz.Format;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ReadBenchmark} without the filesystem: the workbook is preloaded into a
+ * {@code byte[]} ({@code source=heap}) or memory-mapped ({@code source=mmap}), and
+ * every library parses it from an {@link InputStream}. The difference to
+ * {@link ReadBenchmark} is the I/O cost; what remains is parsing and binding.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InMemoryReadBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rowCount;
+
+    @Param({"heap", "mmap"})
+    private String source;
+
+    private byte[] bytes;
+    private MappedByteBuffer mapped;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        String testFile = "benchmark_data/read_" + rowCount + ".xlsx";
+        File f = new File(testFile);
+        if (!f.exists()) {
+            DataGenerator.generateTestFile(testFile, rowCount);
+        }
+        if ("mmap".equals(source)) {
+            try (FileChannel channel = FileChannel.open(f.toPath(), StandardOpenOption.READ)) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                mapped.load();
+            }
+        } else {
+            bytes = Files.readAllBytes(f.toPath());
+        }
+    }
+
+    private InputStream open() {
+        return mapped != null ? new ByteBufferInputStream(mapped) : new ByteArrayInputStream(bytes);
+    }
+
+    @Benchmark
+    public List<Product> sheetzRead() throws Exception {
+        return Sheetz.read(open(), Product.class, Format.XLSX);
+    }
+
+    @Benchmark
+    public List<Product> poiRead() throws Exception {
+        return ProductIO.poiRead(open());
+    }
+
+    @Benchmark
+    public List<ProductEasyExcel> easyExcelRead() throws Exception {
+        return ProductIO.easyExcelRead(open());
+    }
+
+    @Benchmark
+    public List<Product> fastExcelRead() throws Exception {
+        return ProductIO.fastExcelRead(open());
+    }
+
+    @Benchmark
+    public List<Product> poijiRead() throws Exception {
+        return Poiji.fromExcel(open(), PoijiExcelType.XLSX, Product.class);
+    }
+}
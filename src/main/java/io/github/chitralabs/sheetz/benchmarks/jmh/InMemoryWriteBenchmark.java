@@ -0,0 +1,101 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import io.github.chitralabs.sheetz.Format;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WriteBenchmark} without the filesystem: every library serializes into an
+ * {@link OutputStream} that discards the bytes ({@code sink=discard}) or keeps them in a
+ * reused heap buffer ({@code sink=heap}). The difference to {@link WriteBenchmark} is the
+ * I/O cost; what remains is building and compressing the workbook.
+ *
+ * <p>Libraries that spill to temp files internally (SXSSF, EasyExcel) still touch disk.
+ *
+ * <p>Both sinks count the bytes and report them to {@link OutputSizeProfiler}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InMemoryWriteBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rowCount;
+
+    @Param({"discard", "heap"})
+    private String sink;
+
+    private List<Product> products;
+    private List<ProductEasyExcel> productsEasyExcel;
+    private ByteArrayOutputStream buffer;
+    private final CountingDiscard discard = new CountingDiscard();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        products = DataGenerator.generateProducts(rowCount);
+        productsEasyExcel = DataGenerator.toEasyExcel(products);
+        buffer = new ByteArrayOutputStream(rowCount * 64);
+    }
+
+    private OutputStream open() {
+        if ("discard".equals(sink)) {
+            discard.count = 0;
+            return discard;
+        }
+        buffer.reset();
+        return buffer;
+    }
+
+    private void recordSize() {
+        OutputSizeProfiler.record("discard".equals(sink) ? discard.count : buffer.size());
+    }
+
+    @Benchmark
+    public void sheetzWrite() throws Exception {
+        Sheetz.write(products, open(), Format.XLSX);
+        recordSize();
+    }
+
+    @Benchmark
+    public void poiWrite() throws Exception {
+        ProductIO.poiWrite(products, open());
+        recordSize();
+    }
+
+    @Benchmark
+    public void easyExcelWrite() throws Exception {
+        ProductIO.easyExcelWrite(productsEasyExcel, open());
+        recordSize();
+    }
+
+    @Benchmark
+    public void fastExcelWrite() throws Exception {
+        ProductIO.fastExcelWrite(products, open());
+        recordSize();
+    }
+
+    /** Drops the bytes, keeping only their count. */
+    private static final class CountingDiscard extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
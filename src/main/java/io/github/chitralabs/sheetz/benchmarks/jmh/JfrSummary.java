@@ -0,0 +1,202 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A short text summary of a JFR recording, for reading next to the JMH scores:
+ * <ul>
+ *   <li>CPU: {@code jdk.ExecutionSample} counted by top frame (self) and by every method
+ *       on the stack (total, JMH harness frames left out)</li>
+ *   <li>Allocation: sampled bytes by allocating method and class, from
+ *       {@code jdk.ObjectAllocationSample} (JDK 16+) or the TLAB events (JDK 11)</li>
+ *   <li>Locks: {@code jdk.JavaMonitorEnter} and {@code jdk.ThreadPark} time by lock class
+ *       and the method that waited</li>
+ * </ul>
+ * {@link FlightRecorderProfiler} writes one per benchmark. Summarize any other recording
+ * with:
+ *
+ * <pre>java -cp target/benchmarks.jar io.github.chitralabs.sheetz.benchmarks.jmh.JfrSummary recording.jfr [summary.txt]</pre>
+ */
+public final class JfrSummary {
+
+    private static final int TOP = 15;
+
+    /** Frames every sample shares (JMH harness, reflection, worker threads), left out of the totals. */
+    private static final String[] HARNESS = {
+            "org.openjdk.jmh.", ".jmh_generated.", "jdk.internal.reflect.", "java.lang.reflect.",
+            "java.lang.Thread.", "java.util.concurrent.ThreadPoolExecutor", "java.util.concurrent.FutureTask.",
+            "java.util.concurrent.Executors$"
+    };
+
+    private final Map<String, Long> selfSamples = new HashMap<>();
+    private final Map<String, Long> totalSamples = new HashMap<>();
+    private final Map<String, Long> sampledAllocation = new HashMap<>();
+    private final Map<String, Long> tlabAllocation = new HashMap<>();
+    private final Map<String, Long> lockNanos = new HashMap<>();
+    private final Map<String, Long> lockCounts = new HashMap<>();
+    private long executionSamples;
+
+    private JfrSummary() {}
+
+    public static void main(String[] args) throws Exception {
+        Path jfr = Paths.get(args[0]);
+        File out = new File(args.length > 1 ? args[1] : args[0].replaceFirst("\\.jfr$", "") + ".txt");
+        write(jfr, out, jfr.getFileName().toString());
+    }
+
+    static void write(Path jfr, File file, String title) throws IOException {
+        JfrSummary summary = new JfrSummary();
+        for (RecordedEvent event : RecordingFile.readAllEvents(jfr)) {
+            summary.add(event);
+        }
+        try (PrintWriter out = new PrintWriter(file, "UTF-8")) {
+            summary.print(out, title, jfr.getFileName().toString());
+        }
+    }
+
+    private void add(RecordedEvent event) {
+        RecordedStackTrace stack = event.getStackTrace();
+        if (stack == null || stack.getFrames().isEmpty()) {
+            return;
+        }
+        List<RecordedFrame> frames = stack.getFrames();
+        String top = frame(frames.get(0));
+        switch (event.getEventType().getName()) {
+            case "jdk.ExecutionSample":
+                executionSamples++;
+                selfSamples.merge(top, 1L, Long::sum);
+                Set<String> seen = new HashSet<>();
+                for (RecordedFrame f : frames) {
+                    String method = frame(f);
+                    if (!harness(method) && seen.add(method)) {
+                        totalSamples.merge(method, 1L, Long::sum);
+                    }
+                }
+                break;
+            case "jdk.ObjectAllocationSample":
+                sampledAllocation.merge(allocationSite(event, top), event.getLong("weight"), Long::sum);
+                break;
+            case "jdk.ObjectAllocationInNewTLAB":
+                tlabAllocation.merge(allocationSite(event, top), event.getLong("tlabSize"), Long::sum);
+                break;
+            case "jdk.ObjectAllocationOutsideTLAB":
+                tlabAllocation.merge(allocationSite(event, top), event.getLong("allocationSize"), Long::sum);
+                break;
+            case "jdk.JavaMonitorEnter":
+                addLock("monitor " + className(event.getClass("monitorClass")), top, event);
+                break;
+            case "jdk.ThreadPark":
+                addLock("park " + className(event.getClass("parkedClass")), waiter(frames), event);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void addLock(String lock, String site, RecordedEvent event) {
+        String key = lock + " in " + site;
+        lockNanos.merge(key, event.getDuration().toNanos(), Long::sum);
+        lockCounts.merge(key, 1L, Long::sum);
+    }
+
+    private void print(PrintWriter out, String title, String recording) {
+        out.println("# " + title);
+        out.println("# JFR summary of " + recording + " (measurement iterations only)");
+        out.println();
+
+        out.println("## CPU: top methods by execution samples (" + executionSamples + " samples)");
+        out.println();
+        out.printf("%7s %7s  %s%n", "self%", "total%", "method");
+        for (Map.Entry<String, Long> e : top(selfSamples)) {
+            out.printf("%6.1f%% %6.1f%%  %s%n", percent(e.getValue(), executionSamples),
+                    percent(totalSamples.get(e.getKey()), executionSamples), e.getKey());
+        }
+        out.println();
+        out.println("## CPU: top methods including callees");
+        out.println();
+        for (Map.Entry<String, Long> e : top(totalSamples)) {
+            out.printf("%6.1f%%  %s%n", percent(e.getValue(), executionSamples), e.getKey());
+        }
+        out.println();
+
+        Map<String, Long> allocation = sampledAllocation.isEmpty() ? tlabAllocation : sampledAllocation;
+        long allocated = allocation.values().stream().mapToLong(Long::longValue).sum();
+        out.println("## Allocation: top sites by sampled bytes (" + (allocated >> 20) + " MB sampled)");
+        out.println();
+        for (Map.Entry<String, Long> e : top(allocation)) {
+            out.printf("%6.1f%% %10d KB  %s%n", percent(e.getValue(), allocated), e.getValue() >> 10, e.getKey());
+        }
+        out.println();
+
+        out.println("## Locks: blocked time by lock and waiting method (events >= 1 ms)");
+        out.println();
+        if (lockNanos.isEmpty()) {
+            out.println("  (no contention recorded)");
+        }
+        for (Map.Entry<String, Long> e : top(lockNanos)) {
+            out.printf("%10.1f ms %7d x  %s%n", e.getValue() / 1e6, lockCounts.get(e.getKey()), e.getKey());
+        }
+    }
+
+    private static List<Map.Entry<String, Long>> top(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(TOP)
+                .collect(Collectors.toList());
+    }
+
+    private static double percent(Long value, long total) {
+        return value == null || total == 0 ? 0 : 100.0 * value / total;
+    }
+
+    private static boolean harness(String method) {
+        for (String prefix : HARNESS) {
+            if (method.startsWith(prefix) || (prefix.startsWith(".") && method.contains(prefix))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String allocationSite(RecordedEvent event, String top) {
+        return className(event.getClass("objectClass")) + " in " + top;
+    }
+
+    /** The first frame outside {@code java.util.concurrent.locks} and {@code jdk.internal.misc}. */
+    private static String waiter(List<RecordedFrame> frames) {
+        for (RecordedFrame f : frames) {
+            String type = f.getMethod().getType().getName();
+            if (!type.startsWith("java.util.concurrent.locks.") && !type.startsWith("jdk.internal.misc.")) {
+                return frame(f);
+            }
+        }
+        return frame(frames.get(0));
+    }
+
+    private static String frame(RecordedFrame frame) {
+        RecordedMethod method = frame.getMethod();
+        return method.getType().getName() + "." + method.getName();
+    }
+
+    private static String className(RecordedClass type) {
+        return type == null ? "?" : type.getName();
+    }
+}
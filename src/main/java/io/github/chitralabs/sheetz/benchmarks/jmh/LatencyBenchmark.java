@@ -0,0 +1,119 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.poiji.bind.Poiji;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ReadBenchmark} and {@link WriteBenchmark} at request-sized row counts, in
+ * {@link Mode#SampleTime}: JMH times individual calls and reports the distribution
+ * (p50, p90, p99, p99.9, p99.99, max) instead of the mean. A GC pause or an SXSSF flush
+ * that hits one call in a hundred is invisible in {@code AverageTime} but shows in p99.
+ *
+ * <p>Calls run back to back, so a slow call delays the next without being charged for
+ * it (coordinated omission). {@link ArrivalRateRunner} measures latency under a fixed
+ * request rate instead.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 4)
+@Fork(2)
+public class LatencyBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rowCount;
+
+    private String testFile;
+    private List<Product> products;
+    private List<ProductEasyExcel> productsEasyExcel;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        testFile = "benchmark_data/read_" + rowCount + ".xlsx";
+        if (!new File(testFile).exists()) {
+            DataGenerator.generateTestFile(testFile, rowCount);
+        }
+        products = DataGenerator.generateProducts(rowCount);
+        productsEasyExcel = DataGenerator.toEasyExcel(products);
+    }
+
+    // ── Read ───────────────────────────────────────────
+
+    @Benchmark
+    public List<Product> sheetzRead() throws Exception {
+        return Sheetz.read(testFile, Product.class);
+    }
+
+    @Benchmark
+    public List<Product> poiRead() throws Exception {
+        try (InputStream in = new FileInputStream(testFile)) {
+            return ProductIO.poiRead(in);
+        }
+    }
+
+    @Benchmark
+    public List<ProductEasyExcel> easyExcelRead() throws Exception {
+        try (InputStream in = new FileInputStream(testFile)) {
+            return ProductIO.easyExcelRead(in);
+        }
+    }
+
+    @Benchmark
+    public List<Product> fastExcelRead() throws Exception {
+        try (InputStream in = new FileInputStream(testFile)) {
+            return ProductIO.fastExcelRead(in);
+        }
+    }
+
+    @Benchmark
+    public List<Product> poijiRead() {
+        return Poiji.fromExcel(new File(testFile), Product.class);
+    }
+
+    // ── Write ──────────────────────────────────────────
+
+    @Benchmark
+    public void sheetzWrite() throws Exception {
+        Sheetz.write(products, OutputSizeProfiler.track("benchmark_data/latency_sheetz.xlsx"));
+    }
+
+    @Benchmark
+    public void poiWrite() throws Exception {
+        try (OutputStream out = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/latency_poi.xlsx"))) {
+            ProductIO.poiWrite(products, out);
+        }
+    }
+
+    @Benchmark
+    public void poiStreamingWrite() throws Exception {
+        try (OutputStream out = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/latency_poi_sxssf.xlsx"))) {
+            ProductIO.poiStreamingWrite(products, out);
+        }
+    }
+
+    @Benchmark
+    public void easyExcelWrite() throws Exception {
+        try (OutputStream out = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/latency_easyexcel.xlsx"))) {
+            ProductIO.easyExcelWrite(productsEasyExcel, out);
+        }
+    }
+
+    @Benchmark
+    public void fastExcelWrite() throws Exception {
+        try (OutputStream out = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/latency_fastexcel.xlsx"))) {
+            ProductIO.fastExcelWrite(products, out);
+        }
+    }
+}
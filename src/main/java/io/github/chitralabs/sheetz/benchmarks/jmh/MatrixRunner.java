@@ -0,0 +1,194 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Re-runs a benchmark selection (by default {@link ReadBenchmark} and {@link WriteBenchmark})
+ * once per JVM profile: every garbage collector in {@code -gc} crossed with every
+ * environment in {@code -env}. Profiles are named {@code <gc>/<env>}, e.g.
+ * {@code g1/cpu2-512m}.
+ * <ul>
+ *   <li>{@code -gc}: any of {@code g1}, {@code parallel}, {@code zgc}, {@code serial}
+ *       (default: all four)</li>
+ *   <li>{@code -env}: {@code host} (no constraint) or dash-separated constraints,
+ *       {@code cpuN} for {@code -XX:ActiveProcessorCount=N} and a heap size such as
+ *       {@code 512m} for {@code -Xms} = {@code -Xmx} (default: {@code host,cpu2-512m},
+ *       a 2-vCPU container)</li>
+ * </ul>
+ * Forks that fail, for example with {@code OutOfMemoryError} under a small heap, show as
+ * {@code -}. JMH's GC profiler is attached, so each profile's full table in
+ * {@code results/matrix/<gc>_<env>.txt} has {@code gc.time} and {@code gc.alloc.rate.norm}.
+ * {@code results/matrix.txt} puts the scores side by side, with each method's rank within
+ * its benchmark class and parameters, so rank changes between profiles stand out.
+ *
+ * <pre>java -cp target/benchmarks.jar io.github.chitralabs.sheetz.benchmarks.jmh.MatrixRunner -gc g1,zgc -env host,cpu2-512m,cpu1-256m -p rowCount=10000</pre>
+ *
+ * {@code -gc} and {@code -env} go before the JMH options.
+ */
+public class MatrixRunner {
+
+    private static final Map<String, String> COLLECTORS = new LinkedHashMap<>();
+
+    static {
+        COLLECTORS.put("g1", "-XX:+UseG1GC");
+        COLLECTORS.put("parallel", "-XX:+UseParallelGC");
+        COLLECTORS.put("zgc", "-XX:+UseZGC");
+        COLLECTORS.put("serial", "-XX:+UseSerialGC");
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> collectors = new ArrayList<>(COLLECTORS.keySet());
+        List<String> environments = Arrays.asList("host", "cpu2-512m");
+        int i = 0;
+        for (; i + 1 < args.length; i += 2) {
+            if (args[i].equals("-gc")) {
+                collectors = Arrays.asList(args[i + 1].split(","));
+            } else if (args[i].equals("-env")) {
+                environments = Arrays.asList(args[i + 1].split(","));
+            } else {
+                break;
+            }
+        }
+        CommandLineOptions cli = new CommandLineOptions(Arrays.copyOfRange(args, i, args.length));
+
+        File profileDir = new File("results/matrix");
+        profileDir.mkdirs();
+        List<String> profiles = new ArrayList<>();
+        // "ReadBenchmark [rowCount=1000]" -> method -> profile -> score
+        Map<String, Map<String, Map<String, Double>>> scores = new TreeMap<>();
+        Map<String, String> units = new TreeMap<>();
+        for (String gc : collectors) {
+            for (String env : environments) {
+                String profile = gc + "/" + env;
+                profiles.add(profile);
+                OptionsBuilder options = new OptionsBuilder();
+                options.parent(cli)
+                        .jvmArgsAppend(forkArgs(cli, gc, env))
+                        .addProfiler(GCProfiler.class)
+                        .resultFormat(ResultFormatType.TEXT)
+                        .result(new File(profileDir, gc + "_" + env + ".txt").getPath());
+                if (cli.getIncludes().isEmpty()) {
+                    options.include("\\.(ReadBenchmark|WriteBenchmark)\\.");
+                }
+                System.out.println("# Profile " + profile + ": " + String.join(" ", forkArgs(cli, gc, env)));
+                for (RunResult r : new Runner(options.build()).run()) {
+                    String label = BenchmarkRunner.shortName(r.getParams().getBenchmark());
+                    String group = label.substring(0, label.indexOf('.')) + params(r);
+                    String method = label.substring(label.indexOf('.') + 1);
+                    scores.computeIfAbsent(group, k -> new TreeMap<>())
+                            .computeIfAbsent(method, k -> new LinkedHashMap<>())
+                            .put(profile, r.getPrimaryResult().getScore());
+                    units.put(group, r.getPrimaryResult().getScoreUnit());
+                }
+            }
+        }
+
+        File output = new File("results/matrix.txt");
+        try (PrintWriter out = new PrintWriter(output, "UTF-8")) {
+            out.println("# Score per JVM profile (gc/env), with the method's rank within its group in brackets");
+            out.println("#");
+            for (String profile : profiles) {
+                String[] parts = profile.split("/");
+                out.println("# " + profile + ": " + String.join(" ", forkArgs(cli, parts[0], parts[1])));
+            }
+            out.println("# Host: " + Runtime.getRuntime().availableProcessors() + " processors, "
+                    + System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+            out.println("# '-' = no result (the fork failed, e.g. out of memory)");
+            for (Map.Entry<String, Map<String, Map<String, Double>>> group : scores.entrySet()) {
+                out.println();
+                out.println(group.getKey() + " (" + units.get(group.getKey()) + ")");
+                out.printf("  %-28s", "");
+                for (String profile : profiles) {
+                    out.printf(" %20s", profile);
+                }
+                out.println();
+                boolean higherIsBetter = units.get(group.getKey()).startsWith("ops/");
+                for (Map.Entry<String, Map<String, Double>> method : group.getValue().entrySet()) {
+                    out.printf("  %-28s", method.getKey());
+                    for (String profile : profiles) {
+                        Double score = method.getValue().get(profile);
+                        out.printf(" %20s", score == null ? "-"
+                                : String.format("%.3f [%d]", score, rank(group.getValue(), profile, score, higherIsBetter)));
+                    }
+                    out.println();
+                }
+            }
+        }
+        System.out.println("Matrix written to " + output);
+    }
+
+    /**
+     * The user's {@code -jvmArgsAppend}, then the profile's flags. The profile's value replaces
+     * the parent's in {@link OptionsBuilder}, so the user's flags have to be merged in here.
+     * They come first, so a profile's heap size wins over one passed on the command line.
+     */
+    private static String[] forkArgs(CommandLineOptions cli, String gc, String env) {
+        List<String> args = new ArrayList<>(cli.getJvmArgsAppend().orElse(Collections.emptyList()));
+        args.addAll(Arrays.asList(jvmArgs(gc, env)));
+        return args.toArray(new String[0]);
+    }
+
+    static String[] jvmArgs(String gc, String env) {
+        List<String> args = new ArrayList<>();
+        String flag = COLLECTORS.get(gc);
+        if (flag == null) {
+            throw new IllegalArgumentException("Unknown collector: " + gc + " " + COLLECTORS.keySet());
+        }
+        if (gc.equals("zgc")) {
+            // ZGC is experimental before JDK 15. The forks may run another JDK (-jvm) than this
+            // one, so unlock unconditionally: the flag is harmless from 15 on.
+            args.add("-XX:+UnlockExperimentalVMOptions");
+        }
+        args.add(flag);
+        if (!env.equals("host")) {
+            for (String constraint : env.split("-")) {
+                if (constraint.startsWith("cpu")) {
+                    args.add("-XX:ActiveProcessorCount=" + Integer.parseInt(constraint.substring(3)));
+                } else if (constraint.matches("\\d+[mMgG]")) {
+                    args.add("-Xms" + constraint);
+                    args.add("-Xmx" + constraint);
+                } else {
+                    throw new IllegalArgumentException("Unknown constraint '" + constraint + "' in -env " + env
+                            + " (use host, cpuN, <size>m or <size>g, joined with '-')");
+                }
+            }
+        }
+        return args.toArray(new String[0]);
+    }
+
+    /** Parameters other than JMH's own, e.g. {@code  [rowCount=1000]}. */
+    private static String params(RunResult r) {
+        StringBuilder params = new StringBuilder();
+        for (String key : r.getParams().getParamsKeys()) {
+            params.append(params.length() == 0 ? " [" : ", ").append(key).append('=').append(r.getParams().getParam(key));
+        }
+        return params.length() == 0 ? "" : params.append(']').toString();
+    }
+
+    /** 1 for the best score among the group's methods under {@code profile}. */
+    private static int rank(Map<String, Map<String, Double>> group, String profile, double score, boolean higherIsBetter) {
+        int rank = 1;
+        for (Map<String, Double> other : group.values()) {
+            Double s = other.get(profile);
+            if (s != null && (higherIsBetter ? s > score : s < score)) {
+                rank++;
+            }
+        }
+        return rank;
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds the smallest {@code -Xmx} under which each read/write benchmark method completes.
+ *
+ * <p>For every library, operation and row count a fresh JVM runs {@link HeapWorkload} once.
+ * The first run uses the largest heap and records the unconstrained peak heap and peak RSS.
+ * Then {@code -Xmx} is binary-searched down to the last size that still finishes. A run
+ * counts as failed on {@code OutOfMemoryError} (the child runs with
+ * {@code -XX:+ExitOnOutOfMemoryError}) or when it exceeds the timeout because of GC thrashing.
+ *
+ * <p>The table is written to {@code results/memory-footprint.txt}.
+ *
+ * <pre>java -cp target/benchmarks.jar io.github.chitralabs.sheetz.benchmarks.jmh.MinHeapFinder -rows 10000,100000</pre>
+ *
+ * Options: {@code -rows} (default 1000,10000,100000), {@code -only} (regex on
+ * {@code Benchmark.method}), {@code -maxHeap} and {@code -minHeap} (MB, default 4096 and 8),
+ * {@code -step} (MB resolution, default 4), {@code -timeout} (seconds per run, default 300).
+ */
+public class MinHeapFinder {
+
+    private static final List<String> OPERATIONS = Arrays.asList(
+            "ReadBenchmark.sheetzRead",
+            "ReadBenchmark.poiRead",
+            "ReadBenchmark.easyExcelRead",
+            "ReadBenchmark.fastExcelRead",
+            "ReadBenchmark.poijiRead",
+            "WriteBenchmark.sheetzWrite",
+            "WriteBenchmark.poiWrite",
+            "WriteBenchmark.easyExcelWrite",
+            "WriteBenchmark.fastExcelWrite");
+
+    private int[] rowCounts = {1000, 10000, 100000};
+    private String only = ".*";
+    private int minHeapMb = 8;
+    private int maxHeapMb = 4096;
+    private int stepMb = 4;
+    private long timeoutSeconds = 300;
+
+    public static void main(String[] args) throws Exception {
+        MinHeapFinder finder = new MinHeapFinder();
+        for (int i = 0; i < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "-rows":
+                    finder.rowCounts = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+                    break;
+                case "-only":
+                    finder.only = value;
+                    break;
+                case "-minHeap":
+                    finder.minHeapMb = Integer.parseInt(value);
+                    break;
+                case "-maxHeap":
+                    finder.maxHeapMb = Integer.parseInt(value);
+                    break;
+                case "-step":
+                    finder.stepMb = Integer.parseInt(value);
+                    break;
+                case "-timeout":
+                    finder.timeoutSeconds = Long.parseLong(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        finder.run(new File("results/memory-footprint.txt"));
+    }
+
+    void run(File output) throws Exception {
+        output.getParentFile().mkdirs();
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%-30s %10s %12s %14s %14s %8s",
+                "Benchmark", "rowCount", "min -Xmx MB", "peak heap MB", "peak RSS MB", "256 MB"));
+
+        for (int rows : rowCounts) {
+            // Generate the input once, in this JVM, so it is not part of the constrained run
+            String readFile = "benchmark_data/read_" + rows + ".xlsx";
+            if (!new File(readFile).exists()) {
+                DataGenerator.generateTestFile(readFile, rows);
+            }
+            for (String operation : OPERATIONS) {
+                if (!operation.matches(only)) continue;
+                String line = measure(operation, rows);
+                System.out.println(line);
+                lines.add(line);
+            }
+        }
+
+        try (PrintWriter out = new PrintWriter(output, "UTF-8")) {
+            out.println("# Minimum heap per benchmark (binary search on -Xmx, " + stepMb + " MB resolution)");
+            out.println("#");
+            out.println("# JVM:      " + System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+            out.println("# OS:       " + System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+            out.println("# min -Xmx: smallest heap that completes one operation without OOM");
+            out.println("# peak:     heap and RSS of a run at -Xmx" + maxHeapMb + "m (RSS is Linux only)");
+            out.println("# 256 MB:   whether the operation completes with -Xmx256m");
+            out.println("#");
+            out.println("# Run:      java -cp target/benchmarks.jar io.github.chitralabs.sheetz.benchmarks.jmh.MinHeapFinder");
+            out.println();
+            lines.forEach(out::println);
+        }
+    }
+
+    private String measure(String operation, int rows) throws Exception {
+        Run unconstrained = fork(operation, rows, maxHeapMb);
+        if (!unconstrained.ok) {
+            return String.format("%-30s %10d %12s %14s %14s %8s", operation, rows, ">" + maxHeapMb, "-", "-", "no");
+        }
+
+        int lo = minHeapMb;
+        int hi = maxHeapMb;
+        if (fork(operation, rows, lo).ok) {
+            hi = lo;
+        }
+        while (hi - lo > stepMb) {
+            int mid = (lo + hi) >>> 1;
+            if (fork(operation, rows, mid).ok) {
+                hi = mid;
+            } else {
+                lo = mid;
+            }
+        }
+        return String.format("%-30s %10d %12d %14d %14s %8s", operation, rows, hi,
+                unconstrained.peakHeapMb,
+                unconstrained.peakRssMb < 0 ? "n/a" : String.valueOf(unconstrained.peakRssMb),
+                hi <= 256 ? "yes" : "no");
+    }
+
+    private Run fork(String operation, int rows, int heapMb) throws Exception {
+        String[] parts = operation.split("\\.");
+        List<String> command = new ArrayList<>(Arrays.asList(
+                System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+                "-Xmx" + heapMb + "m",
+                "-XX:+ExitOnOutOfMemoryError",
+                "-cp", System.getProperty("java.class.path"),
+                HeapWorkload.class.getName(), parts[0], parts[1], String.valueOf(rows)));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+
+        Run run = new Run();
+        Thread reader = new Thread(() -> {
+            try (BufferedReader in = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (line.startsWith(HeapWorkload.RESULT_PREFIX)) {
+                        String[] values = line.substring(HeapWorkload.RESULT_PREFIX.length()).split(" ");
+                        run.peakHeapMb = Long.parseLong(values[0]);
+                        run.peakRssMb = Long.parseLong(values[1]);
+                    }
+                }
+            } catch (Exception ignored) {
+                // process killed
+            }
+        });
+        reader.start();
+
+        if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+        reader.join();
+        run.ok = process.exitValue() == 0 && run.peakHeapMb >= 0;
+        return run;
+    }
+
+    private static final class Run {
+        volatile boolean ok;
+        volatile long peakHeapMb = -1;
+        volatile long peakRssMb = -1;
+    }
+}
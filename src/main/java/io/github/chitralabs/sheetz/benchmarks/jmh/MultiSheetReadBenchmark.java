@@ -0,0 +1,191 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.read.listener.ReadListener;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import org.dhatim.fastexcel.reader.ReadableWorkbook;
+import org.dhatim.fastexcel.reader.Sheet;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads every sheet of a multi-sheet workbook, one after another and in parallel (one
+ * task per sheet). FastExcel streams its sheets from one {@link ReadableWorkbook}, or in
+ * parallel opens one workbook per task, which re-reads the shared strings each time. The
+ * POI event reader shares the read-only string and style tables across per-sheet SAX
+ * parsers. EasyExcel reads all sheets with {@code doReadAll()}, or runs one reader per
+ * sheet in parallel. Sheetz is left out because the read API used in this suite returns
+ * the first sheet only.
+ *
+ * <p>Each method returns the sum of the quantity column, so no parse is dead code.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class MultiSheetReadBenchmark {
+
+    @Param({"12"})
+    private int sheets;
+
+    @Param({"20000", "200000"})
+    private int rowsPerSheet;
+
+    @Param({"forkjoin"})
+    private String executor;
+
+    private String testFile;
+    private ExecutorService pool;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        testFile = "benchmark_data/sheets_" + sheets + "x" + rowsPerSheet + ".xlsx";
+        if (!new File(testFile).exists()) {
+            DataGenerator.generateMultiSheetTestFile(testFile, sheets, rowsPerSheet);
+        }
+        pool = ParallelExecutors.create(executor);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    // ── FastExcel ──────────────────────────────────────
+
+    @Benchmark
+    public long fastExcelSequential() throws Exception {
+        return fastExcel(false);
+    }
+
+    @Benchmark
+    public long fastExcelParallel() throws Exception {
+        return fastExcel(true);
+    }
+
+    /**
+     * Sequentially, all sheets stream from one {@link ReadableWorkbook}. In parallel, every
+     * task opens its own: FastExcel fills the shared-strings table lazily from a single
+     * unsynchronized reader, so sheets of one workbook cannot be streamed concurrently.
+     */
+    private long fastExcel(boolean parallel) throws Exception {
+        if (!parallel) {
+            try (ReadableWorkbook wb = new ReadableWorkbook(new File(testFile))) {
+                long total = 0;
+                for (Sheet sheet : wb.getSheets().collect(Collectors.toList())) {
+                    total += fastExcelSheet(sheet);
+                }
+                return total;
+            }
+        }
+        List<Callable<Long>> tasks = new ArrayList<>();
+        for (int s = 0; s < sheets; s++) {
+            int sheetNo = s;
+            tasks.add(() -> {
+                try (ReadableWorkbook wb = new ReadableWorkbook(new File(testFile))) {
+                    return fastExcelSheet(wb.getSheet(sheetNo).orElseThrow(IllegalStateException::new));
+                }
+            });
+        }
+        return sum(tasks, true);
+    }
+
+    private static long fastExcelSheet(Sheet sheet) throws IOException {
+        try (Stream<org.dhatim.fastexcel.reader.Row> rows = sheet.openStream()) {
+            return rows.skip(1).map(ProductIO::fastExcelProduct).mapToLong(p -> p.quantity).sum();
+        }
+    }
+
+    // ── POI event model ────────────────────────────────
+
+    @Benchmark
+    public long poiEventSequential() throws Exception {
+        return poiEvent(null);
+    }
+
+    @Benchmark
+    public long poiEventParallel() throws Exception {
+        return poiEvent(pool);
+    }
+
+    private long poiEvent(ExecutorService executor) throws Exception {
+        LongAdder total = new LongAdder();
+        PoiEventReader.readSheets(testFile, ProductIO.HEADERS.length, executor, sheet -> (rowNum, cells) -> {
+            if (rowNum > 0) {
+                total.add(Long.parseLong(cells[4]));
+            }
+            return true;
+        });
+        return total.sum();
+    }
+
+    // ── EasyExcel ──────────────────────────────────────
+
+    @Benchmark
+    public long easyExcelSequential() {
+        QuantitySum sum = new QuantitySum();
+        EasyExcel.read(testFile, ProductEasyExcel.class, sum).doReadAll();
+        return sum.total;
+    }
+
+    @Benchmark
+    public long easyExcelParallel() throws Exception {
+        List<Callable<Long>> tasks = new ArrayList<>();
+        for (int s = 0; s < sheets; s++) {
+            int sheetNo = s;
+            tasks.add(() -> {
+                QuantitySum sum = new QuantitySum();
+                EasyExcel.read(testFile, ProductEasyExcel.class, sum).sheet(sheetNo).doRead();
+                return sum.total;
+            });
+        }
+        return sum(tasks, true);
+    }
+
+    private static final class QuantitySum implements ReadListener<ProductEasyExcel> {
+        long total;
+
+        @Override
+        public void invoke(ProductEasyExcel data, AnalysisContext context) {
+            total += data.getQuantity();
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {
+        }
+    }
+
+    // ── Helpers ────────────────────────────────────────
+
+    private long sum(List<Callable<Long>> tasks, boolean parallel) throws Exception {
+        long total = 0;
+        if (!parallel) {
+            for (Callable<Long> task : tasks) {
+                total += task.call();
+            }
+            return total;
+        }
+        List<Future<Long>> futures = new ArrayList<>();
+        for (Callable<Long> task : tasks) {
+            futures.add(pool.submit(task));
+        }
+        for (Future<Long> future : futures) {
+            total += future.get();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,262 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.ExcelWriter;
+import com.alibaba.excel.write.metadata.WriteSheet;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.WorkbookBuilder;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.dhatim.fastexcel.Workbook;
+import org.dhatim.fastexcel.Worksheet;
+import org.dhatim.fastexcel.reader.ReadableWorkbook;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Multi-sheet workbooks (a 12-month report), written one sheet after another and, where
+ * the API allows it, with the sheets' rows serialized in parallel on an
+ * {@link ParallelExecutors executor}:
+ * <ul>
+ *   <li>FastExcel: each {@link Worksheet} is filled and {@code finish()}ed on its own task,
+ *       which FastExcel supports. The workbook is finished after all sheets.</li>
+ *   <li>SXSSF: sheets are created up front, filled concurrently, and each task flushes its
+ *       own sheet's rows to its temp file. This relies on inline strings (the SXSSF
+ *       default) and on creating no styles while filling. POI does not document it as
+ *       thread-safe.</li>
+ * </ul>
+ * Sheetz's workbook builder and EasyExcel's {@link ExcelWriter} are single-threaded and
+ * only have the sequential variant.
+ *
+ * <p>After a trial of a parallel variant, the last workbook written is read back and every
+ * sheet's row count is checked, so a corrupt parallel result fails the run instead of being
+ * reported as a speed-up.
+ *
+ * <p>Run with {@code -p executor=virtual} on JDK 21 for virtual threads.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class MultiSheetWriteBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"12"})
+    private int sheets;
+
+    @Param({"20000", "200000"})
+    private int rowsPerSheet;
+
+    @Param({"forkjoin"})
+    private String executor;
+
+    private ExecutorService pool;
+    /** Output of the last parallel invocation, checked in {@link #tearDown}. */
+    private String parallelOutput;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        new File("benchmark_data").mkdirs();
+        pool = ParallelExecutors.create(executor);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        pool.shutdownNow();
+        if (parallelOutput != null) {
+            verify(parallelOutput);
+        }
+    }
+
+    /** Fails unless every sheet of {@code path} holds the header plus {@code rowsPerSheet} rows. */
+    private void verify(String path) throws Exception {
+        try (ReadableWorkbook wb = new ReadableWorkbook(new File(path))) {
+            List<org.dhatim.fastexcel.reader.Sheet> written = wb.getSheets().collect(Collectors.toList());
+            if (written.size() != sheets) {
+                throw new IllegalStateException(path + ": " + written.size() + " sheets, expected " + sheets);
+            }
+            for (org.dhatim.fastexcel.reader.Sheet sheet : written) {
+                long rows;
+                try (Stream<org.dhatim.fastexcel.reader.Row> stream = sheet.openStream()) {
+                    rows = stream.count();
+                }
+                if (rows != rowsPerSheet + 1) {
+                    throw new IllegalStateException(path + ", " + sheet.getName() + ": " + rows
+                            + " rows, expected " + (rowsPerSheet + 1));
+                }
+            }
+        }
+    }
+
+    private static String sheetName(int s) {
+        return "Sheet " + (s + 1);
+    }
+
+    // ── Sequential ─────────────────────────────────────
+
+    @Benchmark
+    public void sheetzSequential() throws Exception {
+        WorkbookBuilder workbook = Sheetz.workbook();
+        for (int s = 0; s < sheets; s++) {
+            workbook.sheet(sheetName(s), DataGenerator.lazyProducts(rowsPerSheet));
+        }
+        workbook.write(OutputSizeProfiler.track("benchmark_data/sheets_sheetz.xlsx"));
+    }
+
+    @Benchmark
+    public void easyExcelSequential() {
+        List<ProductEasyExcel> batch = new ArrayList<>(BATCH_SIZE);
+        ExcelWriter writer = EasyExcel.write(OutputSizeProfiler.track("benchmark_data/sheets_easyexcel.xlsx"),
+                ProductEasyExcel.class).build();
+        try {
+            for (int s = 0; s < sheets; s++) {
+                WriteSheet sheet = EasyExcel.writerSheet(s, sheetName(s)).build();
+                Iterator<Product> products = DataGenerator.productIterator(rowsPerSheet);
+                while (products.hasNext()) {
+                    batch.clear();
+                    while (batch.size() < BATCH_SIZE && products.hasNext()) {
+                        batch.add(DataGenerator.toEasyExcel(products.next()));
+                    }
+                    writer.write(batch, sheet);
+                }
+            }
+        } finally {
+            writer.finish();
+        }
+    }
+
+    @Benchmark
+    public void poiStreamingSequential() throws Exception {
+        poiStreaming(false, "benchmark_data/sheets_poi.xlsx");
+    }
+
+    @Benchmark
+    public void fastExcelSequential() throws Exception {
+        fastExcel(false, "benchmark_data/sheets_fastexcel.xlsx");
+    }
+
+    // ── Parallel sheets ────────────────────────────────
+
+    @Benchmark
+    public void poiStreamingParallel() throws Exception {
+        parallelOutput = "benchmark_data/sheets_poi_parallel.xlsx";
+        poiStreaming(true, parallelOutput);
+    }
+
+    @Benchmark
+    public void fastExcelParallel() throws Exception {
+        parallelOutput = "benchmark_data/sheets_fastexcel_parallel.xlsx";
+        fastExcel(true, parallelOutput);
+    }
+
+    // ── Per-library paths ──────────────────────────────
+
+    private void poiStreaming(boolean parallel, String path) throws Exception {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+        try {
+            List<Runnable> fills = new ArrayList<>();
+            for (int s = 0; s < sheets; s++) {
+                SXSSFSheet sheet = workbook.createSheet(sheetName(s));
+                fills.add(() -> {
+                    fillPoi(sheet);
+                    try {
+                        sheet.flushRows();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+            }
+            run(fills, parallel);
+            try (FileOutputStream fos = new FileOutputStream(OutputSizeProfiler.track(path))) {
+                workbook.write(fos);
+            }
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private void fillPoi(Sheet sheet) {
+        Row header = sheet.createRow(0);
+        for (int c = 0; c < ProductIO.HEADERS.length; c++) {
+            header.createCell(c).setCellValue(ProductIO.HEADERS[c]);
+        }
+        Iterator<Product> products = DataGenerator.productIterator(rowsPerSheet);
+        for (int i = 1; products.hasNext(); i++) {
+            Product p = products.next();
+            Row row = sheet.createRow(i);
+            row.createCell(0).setCellValue(p.name);
+            row.createCell(1).setCellValue(p.price);
+            row.createCell(2).setCellValue(p.inStock);
+            row.createCell(3).setCellValue(p.category);
+            row.createCell(4).setCellValue(p.quantity);
+        }
+    }
+
+    private void fastExcel(boolean parallel, String path) throws Exception {
+        try (OutputStream os = new FileOutputStream(OutputSizeProfiler.track(path))) {
+            Workbook wb = new Workbook(os, "Benchmark", "1.0");
+            List<Runnable> fills = new ArrayList<>();
+            for (int s = 0; s < sheets; s++) {
+                Worksheet ws = wb.newWorksheet(sheetName(s));
+                fills.add(() -> {
+                    fillFastExcel(ws);
+                    try {
+                        ws.finish();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+            }
+            run(fills, parallel);
+            wb.finish();
+        }
+    }
+
+    private void fillFastExcel(Worksheet ws) {
+        for (int c = 0; c < ProductIO.HEADERS.length; c++) {
+            ws.value(0, c, ProductIO.HEADERS[c]);
+        }
+        Iterator<Product> products = DataGenerator.productIterator(rowsPerSheet);
+        for (int row = 1; products.hasNext(); row++) {
+            Product p = products.next();
+            ws.value(row, 0, p.name);
+            ws.value(row, 1, p.price);
+            ws.value(row, 2, p.inStock.toString());
+            ws.value(row, 3, p.category);
+            ws.value(row, 4, p.quantity);
+        }
+    }
+
+    private void run(List<Runnable> tasks, boolean parallel) throws Exception {
+        if (!parallel) {
+            tasks.forEach(Runnable::run);
+            return;
+        }
+        List<Future<?>> futures = new ArrayList<>();
+        for (Runnable task : tasks) {
+            futures.add(pool.submit(task));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JMH profiler that reports the average size of the files a write benchmark produced,
+ * as {@code output.size} in KB per file.
+ *
+ * <p>Write benchmarks pass each output path through {@link #track(String)}, which counts one
+ * write to that path. After each iteration the profiler reads every tracked file's length
+ * once and divides the bytes, weighted by each path's write count, by the number of writes.
+ * A path written repeatedly is assumed to get the same content each time, which holds for
+ * every benchmark here. Benchmarks that write to a stream report each write's byte count
+ * with {@link #record(long)} instead. Both are thread-safe, so multi-threaded benchmarks and
+ * batches of files ({@code SmallFilesBenchmark}, {@code ConcurrentWriteBenchmark}) report
+ * bytes per file, which is bytes per operation wherever a batch declares
+ * {@code @OperationsPerInvocation} of its file count. Benchmarks that do neither report
+ * nothing. Without this profiler, {@code track} and {@code record} do nothing.
+ *
+ * <pre>java -jar target/benchmarks.jar WriteBenchmark -prof io.github.chitralabs.sheetz.benchmarks.jmh.OutputSizeProfiler</pre>
+ */
+public class OutputSizeProfiler implements InternalProfiler {
+
+    private static final double KB = 1024.0;
+
+    private static final Map<String, LongAdder> trackedWrites = new ConcurrentHashMap<>();
+    private static final LongAdder recordedBytes = new LongAdder();
+    private static final LongAdder recordedWrites = new LongAdder();
+    private static volatile boolean enabled;
+
+    /** Counts a write to {@code path} and returns the path unchanged. */
+    public static String track(String path) {
+        if (enabled) {
+            trackedWrites.computeIfAbsent(path, k -> new LongAdder()).increment();
+        }
+        return path;
+    }
+
+    /** Counts a write of {@code bytes}. */
+    public static void record(long bytes) {
+        if (enabled) {
+            recordedBytes.add(bytes);
+            recordedWrites.increment();
+        }
+    }
+
+    @Override
+    public String getDescription() {
+        return "Average size of the output files written per operation";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        trackedWrites.clear();
+        recordedBytes.reset();
+        recordedWrites.reset();
+        enabled = true;
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+                                                       IterationParams iterationParams,
+                                                       IterationResult result) {
+        enabled = false;
+        long bytes = recordedBytes.sum();
+        long writes = recordedWrites.sum();
+        for (Map.Entry<String, LongAdder> e : trackedWrites.entrySet()) {
+            long count = e.getValue().sum();
+            bytes += new File(e.getKey()).length() * count;
+            writes += count;
+        }
+        if (writes == 0) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(new ScalarResult("output.size", bytes / KB / writes, "KB", AggregationPolicy.AVG));
+    }
+}
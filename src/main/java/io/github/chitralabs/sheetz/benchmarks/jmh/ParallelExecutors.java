@@ -0,0 +1,34 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Executors for the parallel benchmarks, chosen by an {@code executor} parameter:
+ * {@code forkjoin} is a {@link ForkJoinPool} with one worker per available processor.
+ * {@code virtual} starts a virtual thread per task. It is looked up reflectively, so the
+ * suite still compiles for Java 11, and it needs JDK 21 at run time.
+ */
+final class ParallelExecutors {
+
+    private ParallelExecutors() {}
+
+    static ExecutorService create(String kind) {
+        switch (kind) {
+            case "forkjoin":
+                return new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+            case "virtual":
+                try {
+                    return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                } catch (NoSuchMethodException e) {
+                    throw new IllegalStateException("executor=virtual needs JDK 21+, running on "
+                            + System.getProperty("java.version"), e);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Cannot create a virtual-thread executor", e);
+                }
+            default:
+                throw new IllegalArgumentException("Unknown executor: " + kind + " (forkjoin, virtual)");
+        }
+    }
+}
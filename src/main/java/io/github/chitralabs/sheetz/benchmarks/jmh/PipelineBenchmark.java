@@ -0,0 +1,449 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.ExcelWriter;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.read.listener.ReadListener;
+import com.alibaba.excel.write.metadata.WriteSheet;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import io.github.chitralabs.sheetz.reader.StreamingReader;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.dhatim.fastexcel.Workbook;
+import org.dhatim.fastexcel.Worksheet;
+import org.dhatim.fastexcel.reader.ReadableWorkbook;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * End-to-end ETL: stream an .xlsx in, keep in-stock rows, enrich them (price with 20% tax,
+ * upper-case category) and stream them out to a new .xlsx. Neither file is held in memory.
+ * Each library chains its own streaming reader into its own streaming writer: Sheetz
+ * {@code stream()} into {@code write()}, POI's event reader into SXSSF, an EasyExcel
+ * listener into batched {@link ExcelWriter} writes, and FastExcel {@code openStream()}
+ * into a flushing worksheet. Poiji has no writer.
+ *
+ * <p>{@code *TwoThreads} variants read and transform on a second thread and hand rows to
+ * the writing thread through a bounded {@link Handoff}. They only pay off with two free
+ * cores.
+ *
+ * <p>Throughput is {@code rowCount / score}. Run with {@link HeapProfiler} for peak heap.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class PipelineBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final int QUEUE_BATCHES = 4;
+
+    @Param({"100000", "1000000"})
+    private int rowCount;
+
+    private String testFile;
+    private int keptRows;
+    private ExecutorService readerThread;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        testFile = "benchmark_data/read_" + rowCount + ".xlsx";
+        if (!new File(testFile).exists()) {
+            DataGenerator.generateTestFile(testFile, rowCount);
+        }
+        for (Iterator<Product> it = DataGenerator.productIterator(rowCount); it.hasNext(); ) {
+            if (keep(it.next())) keptRows++;
+        }
+        readerThread = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "pipeline-reader");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        readerThread.shutdownNow();
+    }
+
+    // ── Transform ──────────────────────────────────────
+
+    static boolean keep(Product p) {
+        return p.inStock;
+    }
+
+    static Product enrich(Product p) {
+        return new Product(p.name, Math.round(p.price * 120.0) / 100.0, p.inStock,
+                p.category.toUpperCase(Locale.ROOT), p.quantity);
+    }
+
+    // ── Single thread ──────────────────────────────────
+
+    @Benchmark
+    public void sheetzPipeline() throws Exception {
+        List<StreamingReader<Product>> readers = new ArrayList<>();
+        try {
+            Supplier<Iterator<Product>> rows = () -> {
+                StreamingReader<Product> reader = Sheetz.stream(testFile, Product.class);
+                readers.add(reader);
+                return reader.stream()
+                        .filter(PipelineBenchmark::keep)
+                        .map(PipelineBenchmark::enrich)
+                        .iterator();
+            };
+            Sheetz.write(new SizedView<>(rows, keptRows), OutputSizeProfiler.track("benchmark_data/etl_sheetz.xlsx"));
+        } finally {
+            for (StreamingReader<Product> reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    @Benchmark
+    public void poiPipeline() throws Exception {
+        pipe(this::poiEventSource, new PoiSink(OutputSizeProfiler.track("benchmark_data/etl_poi.xlsx")));
+    }
+
+    @Benchmark
+    public void easyExcelPipeline() throws Exception {
+        pipe(this::easyExcelSource, new EasyExcelSink(OutputSizeProfiler.track("benchmark_data/etl_easyexcel.xlsx")));
+    }
+
+    @Benchmark
+    public void fastExcelPipeline() throws Exception {
+        pipe(this::fastExcelSource, new FastExcelSink(OutputSizeProfiler.track("benchmark_data/etl_fastexcel.xlsx")));
+    }
+
+    // ── Reader and writer on separate threads ──────────
+
+    @Benchmark
+    public void sheetzPipelineTwoThreads() throws Exception {
+        Handoff<Product> handoff = new Handoff<>(QUEUE_BATCHES, BATCH_SIZE);
+        Future<?> reader = startReader(this::sheetzSource, handoff);
+        try {
+            Supplier<Iterator<Product>> rows = new Supplier<Iterator<Product>>() {
+                private boolean taken;
+
+                @Override
+                public Iterator<Product> get() {
+                    if (taken) {
+                        throw new IllegalStateException("Rows handed over between threads cannot be read twice");
+                    }
+                    taken = true;
+                    return handoff;
+                }
+            };
+            Sheetz.write(new SizedView<>(rows, keptRows), OutputSizeProfiler.track("benchmark_data/etl_sheetz.xlsx"));
+        } finally {
+            reader.cancel(true);
+        }
+    }
+
+    @Benchmark
+    public void poiPipelineTwoThreads() throws Exception {
+        pipeTwoThreads(this::poiEventSource, new PoiSink(OutputSizeProfiler.track("benchmark_data/etl_poi.xlsx")));
+    }
+
+    @Benchmark
+    public void easyExcelPipelineTwoThreads() throws Exception {
+        pipeTwoThreads(this::easyExcelSource, new EasyExcelSink(OutputSizeProfiler.track("benchmark_data/etl_easyexcel.xlsx")));
+    }
+
+    @Benchmark
+    public void fastExcelPipelineTwoThreads() throws Exception {
+        pipeTwoThreads(this::fastExcelSource, new FastExcelSink(OutputSizeProfiler.track("benchmark_data/etl_fastexcel.xlsx")));
+    }
+
+    // ── Plumbing ───────────────────────────────────────
+
+    private static void pipe(RowSource source, RowSink sink) throws Exception {
+        try (RowSink out = sink) {
+            source.read(p -> {
+                if (keep(p)) out.accept(enrich(p));
+            });
+        }
+    }
+
+    private void pipeTwoThreads(RowSource source, RowSink sink) throws Exception {
+        Handoff<Product> handoff = new Handoff<>(QUEUE_BATCHES, BATCH_SIZE);
+        Future<?> reader = startReader(source, handoff);
+        try (RowSink out = sink) {
+            handoff.forEachRemaining(out::accept);
+        } finally {
+            reader.cancel(true);
+        }
+    }
+
+    private Future<?> startReader(RowSource source, Handoff<Product> handoff) {
+        return readerThread.submit(() -> {
+            try {
+                source.read(p -> {
+                    if (keep(p)) handoff.put(enrich(p));
+                });
+                handoff.finish();
+            } catch (Throwable t) {
+                handoff.fail(t);
+            }
+        });
+    }
+
+    interface RowSource {
+        void read(Consumer<Product> sink) throws Exception;
+    }
+
+    interface RowSink extends AutoCloseable {
+        void accept(Product p);
+
+        @Override
+        void close() throws IOException;
+    }
+
+    // ── Readers ────────────────────────────────────────
+
+    private void sheetzSource(Consumer<Product> sink) throws Exception {
+        try (StreamingReader<Product> reader = Sheetz.stream(testFile, Product.class)) {
+            reader.forEach(sink);
+        }
+    }
+
+    private void poiEventSource(Consumer<Product> sink) throws Exception {
+        PoiEventReader.read(testFile, ProductIO.HEADERS.length, (rowNum, cells) -> {
+            if (rowNum == 0) return true;
+            sink.accept(new Product(cells[0], Double.parseDouble(cells[1]), Boolean.parseBoolean(cells[2]),
+                    cells[3], Integer.parseInt(cells[4])));
+            return true;
+        });
+    }
+
+    private void easyExcelSource(Consumer<Product> sink) {
+        EasyExcel.read(testFile, ProductEasyExcel.class, new ReadListener<ProductEasyExcel>() {
+            @Override
+            public void invoke(ProductEasyExcel data, AnalysisContext context) {
+                sink.accept(new Product(data.getName(), data.getPrice(), data.getInStock(),
+                        data.getCategory(), data.getQuantity()));
+            }
+
+            @Override
+            public void doAfterAllAnalysed(AnalysisContext context) {
+            }
+        }).sheet().doRead();
+    }
+
+    private void fastExcelSource(Consumer<Product> sink) throws Exception {
+        try (FileInputStream fis = new FileInputStream(testFile);
+             ReadableWorkbook wb = new ReadableWorkbook(fis);
+             Stream<org.dhatim.fastexcel.reader.Row> rows = wb.getFirstSheet().openStream()) {
+            rows.skip(1).map(ProductIO::fastExcelProduct).forEach(sink);
+        }
+    }
+
+    // ── Writers ────────────────────────────────────────
+
+    /** SXSSF with a 100-row window. */
+    private static final class PoiSink implements RowSink {
+        private final String path;
+        private final SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+        private final Sheet sheet = workbook.createSheet("Products");
+        private int rowNum;
+
+        PoiSink(String path) {
+            this.path = path;
+            Row header = sheet.createRow(rowNum++);
+            for (int c = 0; c < ProductIO.HEADERS.length; c++) {
+                header.createCell(c).setCellValue(ProductIO.HEADERS[c]);
+            }
+        }
+
+        @Override
+        public void accept(Product p) {
+            Row row = sheet.createRow(rowNum++);
+            row.createCell(0).setCellValue(p.name);
+            row.createCell(1).setCellValue(p.price);
+            row.createCell(2).setCellValue(p.inStock);
+            row.createCell(3).setCellValue(p.category);
+            row.createCell(4).setCellValue(p.quantity);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (FileOutputStream fos = new FileOutputStream(path)) {
+                workbook.write(fos);
+            } finally {
+                workbook.dispose();
+                workbook.close();
+            }
+        }
+    }
+
+    /** One {@link ExcelWriter}, written to in batches of {@value #BATCH_SIZE}. */
+    private static final class EasyExcelSink implements RowSink {
+        private final ExcelWriter writer;
+        private final WriteSheet sheet = EasyExcel.writerSheet("Products").build();
+        private final List<ProductEasyExcel> batch = new ArrayList<>(BATCH_SIZE);
+
+        EasyExcelSink(String path) {
+            writer = EasyExcel.write(path, ProductEasyExcel.class).build();
+        }
+
+        @Override
+        public void accept(Product p) {
+            batch.add(DataGenerator.toEasyExcel(p));
+            if (batch.size() == BATCH_SIZE) {
+                writer.write(batch, sheet);
+                batch.clear();
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (!batch.isEmpty()) {
+                    writer.write(batch, sheet);
+                }
+            } finally {
+                writer.finish();
+            }
+        }
+    }
+
+    /** Flushes the worksheet every {@value #BATCH_SIZE} rows. */
+    private static final class FastExcelSink implements RowSink {
+        private final OutputStream os;
+        private final Workbook wb;
+        private final Worksheet ws;
+        private int rowNum;
+
+        FastExcelSink(String path) throws Exception {
+            os = new FileOutputStream(path);
+            wb = new Workbook(os, "Benchmark", "1.0");
+            ws = wb.newWorksheet("Products");
+            for (int c = 0; c < ProductIO.HEADERS.length; c++) {
+                ws.value(0, c, ProductIO.HEADERS[c]);
+            }
+            rowNum = 1;
+        }
+
+        @Override
+        public void accept(Product p) {
+            ws.value(rowNum, 0, p.name);
+            ws.value(rowNum, 1, p.price);
+            ws.value(rowNum, 2, p.inStock.toString());
+            ws.value(rowNum, 3, p.category);
+            ws.value(rowNum, 4, p.quantity);
+            if (rowNum % BATCH_SIZE == 0) {
+                try {
+                    ws.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            rowNum++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                ws.finish();
+                wb.finish();
+            } finally {
+                os.close();
+            }
+        }
+    }
+
+    /**
+     * A {@link List} of known size over a row source, for Sheetz's list-based writer. Like
+     * {@code DataGenerator.lazyProducts}, sequential access is O(1) per element and going
+     * backwards reopens the source from the start. The iterator keeps its own position.
+     *
+     * <p>The size has to be known before Sheetz writes, so it is the filtered row count
+     * computed in {@link #setup}. It is checked against the source: a source that yields
+     * fewer or more rows fails instead of writing a truncated file.
+     */
+    private static final class SizedView<T> extends AbstractList<T> {
+        private final Supplier<Iterator<T>> source;
+        private final int size;
+        private Iterator<T> cursor;
+        private int next;
+        private T last;
+
+        SizedView(Supplier<Iterator<T>> source, int size) {
+            this.source = source;
+            this.size = size;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            if (index == next - 1) {
+                return last;
+            }
+            if (cursor == null || index < next) {
+                cursor = source.get();
+                next = 0;
+            }
+            while (next <= index) {
+                if (!cursor.hasNext()) {
+                    throw new IllegalStateException("Source ended after " + next + " rows, expected " + size);
+                }
+                last = cursor.next();
+                next++;
+            }
+            if (next == size && cursor.hasNext()) {
+                throw new IllegalStateException("Source has more than the expected " + size + " rows");
+            }
+            return last;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < size;
+                }
+
+                @Override
+                public T next() {
+                    if (index >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return get(index++);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+/**
+ * Apache POI event model (XSSFReader + SAX) reader for the first sheet, or for every
+ * sheet, optionally in parallel. Rows are pushed to a {@link RowHandler} one at a time;
+ * nothing is retained.
+ */
+public final class PoiEventReader {
+
+    /**
+     * Receives each row as formatted cell text. The array is reused between rows
+     * and holds {@code null} for missing cells.
+     */
+    public interface RowHandler {
+        /** @return {@code false} to stop reading the sheet */
+        boolean row(int rowNum, String[] cells);
+    }
+
+    private PoiEventReader() {}
+
+    public static void read(String path, int columnCount, RowHandler handler) throws Exception {
+        try (OPCPackage pkg = OPCPackage.open(path, PackageAccess.READ)) {
+            readFirstSheet(pkg, columnCount, handler);
+        }
+    }
+
+    /** {@link #read(String, int, RowHandler)} on a workbook held in a stream, e.g. in memory. */
+    public static void read(InputStream in, int columnCount, RowHandler handler) throws Exception {
+        try (OPCPackage pkg = OPCPackage.open(in)) {
+            readFirstSheet(pkg, columnCount, handler);
+        }
+    }
+
+    private static void readFirstSheet(OPCPackage pkg, int columnCount, RowHandler handler) throws Exception {
+        XSSFReader reader = new XSSFReader(pkg);
+        ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+        try (InputStream sheet = reader.getSheetsData().next()) {
+            parse(reader.getStylesTable(), strings, sheet, columnCount, handler);
+        }
+    }
+
+    /**
+     * Reads every sheet, each with its own handler from {@code handlers} (by sheet index).
+     * With an {@code executor} the sheets are parsed concurrently. They share the read-only
+     * shared-strings and styles tables, and each gets its own SAX parser and formatter.
+     * Without one, they are parsed in order on the calling thread.
+     */
+    public static void readSheets(String path, int columnCount, ExecutorService executor,
+                                  IntFunction<RowHandler> handlers) throws Exception {
+        try (OPCPackage pkg = OPCPackage.open(path, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+            List<InputStream> sheets = new ArrayList<>();
+            try {
+                for (Iterator<InputStream> it = reader.getSheetsData(); it.hasNext(); ) {
+                    sheets.add(it.next());
+                }
+                List<Future<?>> tasks = new ArrayList<>();
+                for (int i = 0; i < sheets.size(); i++) {
+                    InputStream sheet = sheets.get(i);
+                    RowHandler handler = handlers.apply(i);
+                    if (executor == null) {
+                        parse(styles, strings, sheet, columnCount, handler);
+                    } else {
+                        tasks.add(executor.submit(() -> {
+                            parse(styles, strings, sheet, columnCount, handler);
+                            return null;
+                        }));
+                    }
+                }
+                for (Future<?> task : tasks) {
+                    task.get();
+                }
+            } finally {
+                for (InputStream sheet : sheets) {
+                    sheet.close();
+                }
+            }
+        }
+    }
+
+    private static void parse(StylesTable styles, ReadOnlySharedStringsTable strings, InputStream sheet,
+                              int columnCount, RowHandler handler) throws Exception {
+        XMLReader parser = XMLHelper.newXMLReader();
+        parser.setContentHandler(new XSSFSheetXMLHandler(
+                styles, strings, new Rows(columnCount, handler), new DataFormatter(), false));
+        try {
+            parser.parse(new InputSource(sheet));
+        } catch (StopReading ignored) {
+            // handler asked to stop early
+        }
+    }
+
+    /** Parses the column letters of a cell reference such as {@code "AB12"} into a 0-based index. */
+    static int columnIndex(String cellReference) {
+        int col = 0;
+        for (int i = 0; i < cellReference.length(); i++) {
+            char c = cellReference.charAt(i);
+            if (c < 'A' || c > 'Z') break;
+            col = col * 26 + (c - 'A' + 1);
+        }
+        return col - 1;
+    }
+
+    private static final class Rows implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final String[] cells;
+        private final RowHandler handler;
+
+        Rows(int columnCount, RowHandler handler) {
+            this.cells = new String[columnCount];
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            Arrays.fill(cells, null);
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (!handler.row(rowNum, cells)) {
+                throw new StopReading();
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int col = columnIndex(cellReference);
+            if (col < cells.length) {
+                cells[col] = formattedValue;
+            }
+        }
+    }
+
+    private static final class StopReading extends RuntimeException {
+        StopReading() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.read.listener.ReadListener;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.dhatim.fastexcel.Workbook;
+import org.dhatim.fastexcel.Worksheet;
+import org.dhatim.fastexcel.reader.ReadableWorkbook;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Stream-based read and write paths, shared by the benchmark variants that change where
+ * bytes come from or go to (per-thread files, in-memory buffers, ...). The POI and
+ * FastExcel methods of {@link ReadBenchmark} and {@link WriteBenchmark} delegate here.
+ * Their EasyExcel methods do not: they use EasyExcel's file-path API, which buffers and
+ * closes differently from the stream API used here. Streams are not closed here.
+ */
+public final class ProductIO {
+
+    static final String[] HEADERS = {"Product Name", "Price", "In Stock", "Category", "Quantity"};
+
+    private ProductIO() {}
+
+    // ── Read ───────────────────────────────────────────
+
+    public static List<Product> poiRead(InputStream in) throws Exception {
+        List<Product> result = new ArrayList<>();
+        try (org.apache.poi.ss.usermodel.Workbook workbook = new XSSFWorkbook(in)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+                Row row = sheet.getRow(i);
+                if (row == null) continue;
+                Product p = new Product();
+                p.name = row.getCell(0).getStringCellValue();
+                p.price = row.getCell(1).getNumericCellValue();
+                p.inStock = row.getCell(2).getBooleanCellValue();
+                p.category = row.getCell(3).getStringCellValue();
+                p.quantity = (int) row.getCell(4).getNumericCellValue();
+                result.add(p);
+            }
+        }
+        return result;
+    }
+
+    public static List<ProductEasyExcel> easyExcelRead(InputStream in) {
+        List<ProductEasyExcel> result = new ArrayList<>();
+        EasyExcel.read(in, ProductEasyExcel.class, new ReadListener<ProductEasyExcel>() {
+            @Override
+            public void invoke(ProductEasyExcel data, AnalysisContext context) {
+                result.add(data);
+            }
+
+            @Override
+            public void doAfterAllAnalysed(AnalysisContext context) {
+            }
+        }).sheet().doRead();
+        return result;
+    }
+
+    public static List<Product> fastExcelRead(InputStream in) throws Exception {
+        List<Product> result = new ArrayList<>();
+        try (ReadableWorkbook wb = new ReadableWorkbook(in)) {
+            try (Stream<org.dhatim.fastexcel.reader.Row> rows = wb.getFirstSheet().openStream()) {
+                rows.skip(1).forEach(row -> result.add(fastExcelProduct(row)));
+            }
+        }
+        return result;
+    }
+
+    static Product fastExcelProduct(org.dhatim.fastexcel.reader.Row row) {
+        Product p = new Product();
+        p.name = row.getCellText(0);
+        p.price = Double.parseDouble(row.getCellText(1));
+        String inStockText = row.getCellText(2);
+        p.inStock = "1".equals(inStockText) || "true".equalsIgnoreCase(inStockText);
+        p.category = row.getCellText(3);
+        p.quantity = (int) Double.parseDouble(row.getCellText(4));
+        return p;
+    }
+
+    // ── Write ──────────────────────────────────────────
+
+    public static void poiWrite(List<Product> products, OutputStream out) throws Exception {
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("Products");
+
+            Row header = sheet.createRow(0);
+            for (int c = 0; c < HEADERS.length; c++) {
+                header.createCell(c).setCellValue(HEADERS[c]);
+            }
+
+            for (int i = 0; i < products.size(); i++) {
+                Product p = products.get(i);
+                Row row = sheet.createRow(i + 1);
+                row.createCell(0).setCellValue(p.name);
+                row.createCell(1).setCellValue(p.price);
+                row.createCell(2).setCellValue(p.inStock);
+                row.createCell(3).setCellValue(p.category);
+                row.createCell(4).setCellValue(p.quantity);
+            }
+
+            workbook.write(out);
+        }
+    }
+
+    /** {@link #poiWrite} on SXSSF: rows beyond a 100-row window are flushed to a temp file. */
+    public static void poiStreamingWrite(List<Product> products, OutputStream out) throws Exception {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+        try {
+            Sheet sheet = workbook.createSheet("Products");
+
+            Row header = sheet.createRow(0);
+            for (int c = 0; c < HEADERS.length; c++) {
+                header.createCell(c).setCellValue(HEADERS[c]);
+            }
+
+            for (int i = 0; i < products.size(); i++) {
+                Product p = products.get(i);
+                Row row = sheet.createRow(i + 1);
+                row.createCell(0).setCellValue(p.name);
+                row.createCell(1).setCellValue(p.price);
+                row.createCell(2).setCellValue(p.inStock);
+                row.createCell(3).setCellValue(p.category);
+                row.createCell(4).setCellValue(p.quantity);
+            }
+
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    public static void easyExcelWrite(List<ProductEasyExcel> products, OutputStream out) {
+        EasyExcel.write(out, ProductEasyExcel.class)
+                .autoCloseStream(false)
+                .sheet("Products")
+                .doWrite(products);
+    }
+
+    public static void fastExcelWrite(List<Product> products, OutputStream out) throws Exception {
+        Workbook wb = new Workbook(out, "Benchmark", "1.0");
+        Worksheet ws = wb.newWorksheet("Products");
+
+        for (int c = 0; c < HEADERS.length; c++) {
+            ws.value(0, c, HEADERS[c]);
+        }
+
+        for (int i = 0; i < products.size(); i++) {
+            Product p = products.get(i);
+            int row = i + 1;
+            ws.value(row, 0, p.name);
+            ws.value(row, 1, p.price);
+            ws.value(row, 2, p.inStock.toString());
+            ws.value(row, 3, p.category);
+            ws.value(row, 4, p.quantity);
+        }
+
+        wb.finish();
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.read.listener.ReadListener;
+import com.poiji.bind.Poiji;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.wide.ColumnType;
+import io.github.chitralabs.sheetz.benchmarks.model.wide.WideProjection;
+import io.github.chitralabs.sheetz.benchmarks.model.wide.WideSchema;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.dhatim.fastexcel.reader.ReadableWorkbook;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Reads 2 of the 150 columns of the {@code MIXED} wide sheet: Sheetz, Poiji and EasyExcel
+ * bind to {@link WideProjection}, POI and FastExcel touch only column indexes 0 and 4, and
+ * the POI event reader keeps only the first 5 cells of each row. POI and FastExcel convert
+ * the date with {@code WideReadBenchmark}'s per-cell conversion, which accepts a date
+ * stored as text or as a number.
+ *
+ * <p>The full reads of the same file are {@code WideReadBenchmark} with
+ * {@code columns=150, typeMix=MIXED}. A library whose projected score is close to its
+ * full score still parses every cell and saves only binding.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ProjectionBenchmark {
+
+    private static final int COLUMNS = 150;
+    private static final int TEXT_COLUMN = 0;
+    private static final int DATE_COLUMN = 4;
+
+    @Param({"1000", "10000"})
+    private int rowCount;
+
+    private String testFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        testFile = "benchmark_data/wide_" + COLUMNS + "_mixed_" + rowCount + ".xlsx";
+        if (!new File(testFile).exists()) {
+            DataGenerator.generateWideTestFile(testFile, COLUMNS, WideSchema.TypeMix.MIXED, rowCount);
+        }
+    }
+
+    @Benchmark
+    public List<WideProjection> sheetzProjected() throws Exception {
+        return Sheetz.read(testFile, WideProjection.class);
+    }
+
+    @Benchmark
+    public List<WideProjection> poijiProjected() throws Exception {
+        return Poiji.fromExcel(new File(testFile), WideProjection.class);
+    }
+
+    @Benchmark
+    public List<WideProjection> easyExcelProjected() throws Exception {
+        List<WideProjection> result = new ArrayList<>();
+        EasyExcel.read(testFile, WideProjection.class, new ReadListener<WideProjection>() {
+            @Override
+            public void invoke(WideProjection data, AnalysisContext context) {
+                result.add(data);
+            }
+
+            @Override
+            public void doAfterAllAnalysed(AnalysisContext context) {
+            }
+        }).sheet().doRead();
+        return result;
+    }
+
+    @Benchmark
+    public List<WideProjection> poiProjected() throws Exception {
+        List<WideProjection> result = new ArrayList<>();
+        try (FileInputStream fis = new FileInputStream(testFile);
+             Workbook workbook = new XSSFWorkbook(fis)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+                Row row = sheet.getRow(i);
+                if (row == null) continue;
+                WideProjection p = new WideProjection();
+                p.setC001(row.getCell(TEXT_COLUMN).getStringCellValue());
+                p.setC005((LocalDate) WideReadBenchmark.poiValue(row.getCell(DATE_COLUMN), ColumnType.LOCAL_DATE));
+                result.add(p);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<WideProjection> fastExcelProjected() throws Exception {
+        List<WideProjection> result = new ArrayList<>();
+        try (FileInputStream fis = new FileInputStream(testFile);
+             ReadableWorkbook wb = new ReadableWorkbook(fis);
+             Stream<org.dhatim.fastexcel.reader.Row> rows = wb.getFirstSheet().openStream()) {
+            rows.skip(1).forEach(row -> {
+                WideProjection p = new WideProjection();
+                p.setC001(row.getCellText(TEXT_COLUMN));
+                p.setC005((LocalDate) WideReadBenchmark.fastExcelValue(row.getCell(DATE_COLUMN), ColumnType.LOCAL_DATE));
+                result.add(p);
+            });
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void poiEventProjected(Blackhole bh) throws Exception {
+        PoiEventReader.read(testFile, DATE_COLUMN + 1, (rowNum, cells) -> {
+            bh.consume(cells[TEXT_COLUMN]);
+            bh.consume(cells[DATE_COLUMN]);
+            return true;
+        });
+    }
+}
@@ -7,11 +7,6 @@ import com.poiji.bind.Poiji;
 import io.github.chitralabs.sheetz.Sheetz;
 import io.github.chitralabs.sheetz.benchmarks.model.Product;
 import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.dhatim.fastexcel.reader.ReadableWorkbook;
 import org.openjdk.jmh.annotations.*;
 
 import java.io.File;
@@ -19,7 +14,6 @@ import java.io.FileInputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Stream;
 
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.MILLISECONDS)
@@ -50,23 +44,9 @@ public class ReadBenchmark {
 
     @Benchmark
     public List<Product> poiRead() throws Exception {
-        List<Product> result = new ArrayList<>();
-        try (FileInputStream fis = new FileInputStream(testFile);
-             Workbook workbook = new XSSFWorkbook(fis)) {
-            Sheet sheet = workbook.getSheetAt(0);
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row == null) continue;
-                Product p = new Product();
-                p.name = row.getCell(0).getStringCellValue();
-                p.price = row.getCell(1).getNumericCellValue();
-                p.inStock = row.getCell(2).getBooleanCellValue();
-                p.category = row.getCell(3).getStringCellValue();
-                p.quantity = (int) row.getCell(4).getNumericCellValue();
-                result.add(p);
-            }
+        try (FileInputStream fis = new FileInputStream(testFile)) {
+            return ProductIO.poiRead(fis);
         }
-        return result;
     }
 
     @Benchmark
@@ -87,24 +67,9 @@ public class ReadBenchmark {
 
     @Benchmark
     public List<Product> fastExcelRead() throws Exception {
-        List<Product> result = new ArrayList<>();
-        try (FileInputStream fis = new FileInputStream(testFile);
-             ReadableWorkbook wb = new ReadableWorkbook(fis)) {
-            org.dhatim.fastexcel.reader.Sheet sheet = wb.getFirstSheet();
-            try (Stream<org.dhatim.fastexcel.reader.Row> rows = sheet.openStream()) {
-                rows.skip(1).forEach(row -> {
-                    Product p = new Product();
-                    p.name = row.getCellText(0);
-                    p.price = Double.parseDouble(row.getCellText(1));
-                    String inStockText = row.getCellText(2);
-                    p.inStock = "1".equals(inStockText) || "true".equalsIgnoreCase(inStockText);
-                    p.category = row.getCellText(3);
-                    p.quantity = (int) Double.parseDouble(row.getCellText(4));
-                    result.add(p);
-                });
-            }
+        try (FileInputStream fis = new FileInputStream(testFile)) {
+            return ProductIO.fastExcelRead(fis);
         }
-        return result;
     }
 
     @Benchmark
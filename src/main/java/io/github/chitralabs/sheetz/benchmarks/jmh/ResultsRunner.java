@@ -0,0 +1,292 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Runs JMH and stores the results as JSON, tagged with the JVM, the hardware and the
+ * library versions from {@code pom.xml}, then compares them with a stored baseline.
+ *
+ * <p>Each run is saved to {@code results/json/<timestamp>.json} as
+ * {@code {"environment": {...}, "benchmarks": [JMH's JSON]}}. If {@code results/baseline.json}
+ * (or the file given with {@code -baseline}) exists, every benchmark and parameter
+ * combination is matched with the baseline. A change counts as significant when the
+ * baseline and current 99.9% confidence intervals that JMH reports do not overlap.
+ * The table goes to {@code results/comparison.txt}. The process exits with status 2 if
+ * anything regressed.
+ *
+ * <pre>
+ * # before a library bump: record the baseline
+ * java -cp target/benchmarks.jar io.github.chitralabs.sheetz.benchmarks.jmh.ResultsRunner ReadBenchmark WriteBenchmark
+ * cp results/json/&lt;timestamp&gt;.json results/baseline.json
+ * # after bumping sheetz.version and rebuilding
+ * java -cp target/benchmarks.jar io.github.chitralabs.sheetz.benchmarks.jmh.ResultsRunner ReadBenchmark WriteBenchmark
+ * # or compare two stored runs without running anything
+ * java -cp target/benchmarks.jar io.github.chitralabs.sheetz.benchmarks.jmh.ResultsRunner -compare results/baseline.json results/json/&lt;timestamp&gt;.json
+ * </pre>
+ *
+ * {@code -baseline} and {@code -compare} go before the JMH options.
+ */
+public class ResultsRunner {
+
+    private static final String RESULTS_DIR = "results";
+    private static final String VERSIONS = "/benchmark-versions.properties";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("-compare")) {
+            if (args.length != 3) {
+                throw new IllegalArgumentException("Usage: -compare <baseline.json> <current.json>");
+            }
+            exit(compare(new File(args[1]), new File(args[2])));
+            return;
+        }
+        File baseline = new File(RESULTS_DIR, "baseline.json");
+        if (args.length > 1 && args[0].equals("-baseline")) {
+            baseline = new File(args[1]);
+            args = Arrays.copyOfRange(args, 2, args.length);
+        }
+
+        File jsonDir = new File(RESULTS_DIR, "json");
+        jsonDir.mkdirs();
+        File raw = File.createTempFile("jmh", ".json");
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .resultFormat(ResultFormatType.JSON)
+                .result(raw.getPath())
+                .build()).run();
+
+        Map<String, Object> store = new LinkedHashMap<>();
+        store.put("environment", environment());
+        store.put("benchmarks", Json.parse(new String(Files.readAllBytes(raw.toPath()), StandardCharsets.UTF_8)));
+        Files.delete(raw.toPath());
+        File current = new File(jsonDir, LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        Files.write(current.toPath(), Json.write(store).getBytes(StandardCharsets.UTF_8));
+        System.out.println("Results saved to " + current);
+
+        if (baseline.exists()) {
+            exit(compare(baseline, current));
+        } else {
+            System.out.println("No baseline at " + baseline + ", nothing to compare. Copy a run there to make it the baseline.");
+        }
+    }
+
+    private static void exit(int regressions) {
+        if (regressions > 0) {
+            System.exit(2);
+        }
+    }
+
+    // ── Environment ────────────────────────────────────
+
+    static Map<String, Object> environment() throws Exception {
+        Map<String, Object> env = new LinkedHashMap<>();
+        env.put("timestamp", LocalDateTime.now().toString());
+        env.put("java.version", System.getProperty("java.version"));
+        env.put("java.vm", System.getProperty("java.vm.name") + " " + System.getProperty("java.vm.version"));
+        env.put("java.vendor", System.getProperty("java.vendor"));
+        env.put("os", System.getProperty("os.name") + " " + System.getProperty("os.version") + " " + System.getProperty("os.arch"));
+        env.put("cpu", cpuModel());
+        env.put("cpu.count", Runtime.getRuntime().availableProcessors());
+        java.lang.management.OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            env.put("memory.mb", totalMemory((com.sun.management.OperatingSystemMXBean) os) >> 20);
+        }
+        Map<String, Object> libraries = new LinkedHashMap<>();
+        Properties versions = new Properties();
+        try (InputStream in = ResultsRunner.class.getResourceAsStream(VERSIONS)) {
+            if (in != null) {
+                versions.load(in);
+            }
+        }
+        versions.stringPropertyNames().stream().sorted().forEach(k -> libraries.put(k, versions.getProperty(k)));
+        env.put("libraries", libraries);
+        return env;
+    }
+
+    /**
+     * {@code getTotalMemorySize()} where it exists (JDK 14+), looked up reflectively because
+     * the build targets 11, otherwise the {@code getTotalPhysicalMemorySize()} it replaces.
+     */
+    @SuppressWarnings("deprecation")
+    private static long totalMemory(com.sun.management.OperatingSystemMXBean os) {
+        try {
+            return (Long) com.sun.management.OperatingSystemMXBean.class.getMethod("getTotalMemorySize").invoke(os);
+        } catch (ReflectiveOperationException e) {
+            return os.getTotalPhysicalMemorySize();
+        }
+    }
+
+    private static String cpuModel() {
+        try {
+            String os = System.getProperty("os.name").toLowerCase();
+            if (os.contains("linux")) {
+                for (String line : Files.readAllLines(new File("/proc/cpuinfo").toPath())) {
+                    if (line.startsWith("model name")) {
+                        return line.substring(line.indexOf(':') + 1).trim();
+                    }
+                }
+            } else if (os.contains("mac")) {
+                Process p = new ProcessBuilder("sysctl", "-n", "machdep.cpu.brand_string").start();
+                try (BufferedReader r = new BufferedReader(new InputStreamReader(p.getInputStream(), StandardCharsets.UTF_8))) {
+                    String line = r.readLine();
+                    if (line != null) return line.trim();
+                }
+            } else if (System.getenv("PROCESSOR_IDENTIFIER") != null) {
+                return System.getenv("PROCESSOR_IDENTIFIER");
+            }
+        } catch (Exception e) {
+            // fall through
+        }
+        return "unknown";
+    }
+
+    // ── Comparison ─────────────────────────────────────
+
+    /** Writes {@code results/comparison.txt} and returns the number of significant regressions. */
+    @SuppressWarnings("unchecked")
+    static int compare(File baselineFile, File currentFile) throws Exception {
+        Map<String, Object> baseline = read(baselineFile);
+        Map<String, Object> current = read(currentFile);
+        Map<String, Map<String, Object>> before = byKey((List<Object>) baseline.get("benchmarks"));
+        Map<String, Map<String, Object>> after = byKey((List<Object>) current.get("benchmarks"));
+
+        List<String> lines = new ArrayList<>();
+        int regressions = 0;
+        int improvements = 0;
+        for (Map.Entry<String, Map<String, Object>> e : after.entrySet()) {
+            Map<String, Object> now = e.getValue();
+            Map<String, Object> then = before.get(e.getKey());
+            Map<String, Object> metric = (Map<String, Object>) now.get("primaryMetric");
+            if (then == null) {
+                lines.add(String.format("%-70s %20s %20s %8s  %s", e.getKey(), "-", score(metric), "", "new"));
+                continue;
+            }
+            Map<String, Object> old = (Map<String, Object>) then.get("primaryMetric");
+            double a = number(old.get("score"));
+            double b = number(metric.get("score"));
+            double change = (b - a) / a;
+            boolean higherIsBetter = "thrpt".equals(now.get("mode"));
+            String verdict;
+            double[] ci0 = interval(old);
+            double[] ci1 = interval(metric);
+            if (ci0 == null || ci1 == null) {
+                verdict = "no error interval";
+            } else if (ci1[0] > ci0[1] || ci1[1] < ci0[0]) {
+                boolean better = (b > a) == higherIsBetter;
+                verdict = better ? "IMPROVED" : "REGRESSED";
+                if (better) improvements++; else regressions++;
+            } else {
+                verdict = "no significant change";
+            }
+            lines.add(String.format("%-70s %20s %20s %+7.1f%%  %s", e.getKey(), score(old), score(metric), 100 * change, verdict));
+        }
+        for (String key : before.keySet()) {
+            if (!after.containsKey(key)) {
+                lines.add(String.format("%-70s %20s %20s %8s  %s", key, score((Map<String, Object>) before.get(key).get("primaryMetric")), "-", "", "not run"));
+            }
+        }
+
+        File output = new File(RESULTS_DIR, "comparison.txt");
+        output.getParentFile().mkdirs();
+        try (PrintWriter out = new PrintWriter(output, "UTF-8")) {
+            out.println("# Baseline: " + baselineFile + " (" + describe(baseline) + ")");
+            out.println("# Current:  " + currentFile + " (" + describe(current) + ")");
+            for (String difference : differences(baseline, current)) {
+                out.println("# WARNING: " + difference + " differs, scores may not be comparable");
+            }
+            out.println("#");
+            out.println("# Significant = the 99.9% confidence intervals (score +- error) do not overlap.");
+            out.println("# " + regressions + " regressed, " + improvements + " improved");
+            out.println();
+            out.printf("%-70s %20s %20s %8s  %s%n", "Benchmark [params]", "Baseline", "Current", "Change", "Verdict");
+            lines.forEach(out::println);
+        }
+        Files.readAllLines(output.toPath()).forEach(System.out::println);
+        return regressions;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> read(File file) throws Exception {
+        return (Map<String, Object>) Json.parse(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+
+    /** {@code ReadBenchmark.sheetzRead [rowCount=1000] avgt}, in run order. */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Map<String, Object>> byKey(List<Object> benchmarks) {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (Object o : benchmarks) {
+            Map<String, Object> b = (Map<String, Object>) o;
+            StringBuilder key = new StringBuilder(BenchmarkRunner.shortName((String) b.get("benchmark")));
+            Map<String, Object> params = (Map<String, Object>) b.get("params");
+            if (params != null && !params.isEmpty()) {
+                StringBuilder list = new StringBuilder();
+                params.forEach((k, v) -> list.append(list.length() == 0 ? "" : ", ").append(k).append('=').append(v));
+                key.append(" [").append(list).append(']');
+            }
+            key.append(' ').append(b.get("mode"));
+            result.put(key.toString(), b);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static double[] interval(Map<String, Object> metric) {
+        List<Object> ci = (List<Object>) metric.get("scoreConfidence");
+        if (ci == null || ci.size() != 2) return null;
+        double lo = number(ci.get(0));
+        double hi = number(ci.get(1));
+        return Double.isNaN(lo) || Double.isNaN(hi) ? null : new double[]{lo, hi};
+    }
+
+    /** JMH writes NaN and infinities as strings. */
+    private static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : Double.parseDouble(String.valueOf(value));
+    }
+
+    private static String score(Map<String, Object> metric) {
+        double error = number(metric.get("scoreError"));
+        String unit = " " + metric.get("scoreUnit");
+        return Double.isNaN(error)
+                ? String.format("%.3f", number(metric.get("score"))) + unit
+                : String.format("%.3f +- %.3f", number(metric.get("score")), error) + unit;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String describe(Map<String, Object> store) {
+        Map<String, Object> env = (Map<String, Object>) store.getOrDefault("environment", Map.of());
+        Map<String, Object> libraries = (Map<String, Object>) env.getOrDefault("libraries", Map.of());
+        return env.get("java.version") + ", " + env.get("cpu") + ", sheetz " + libraries.get("sheetz");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> differences(Map<String, Object> baseline, Map<String, Object> current) {
+        Map<String, Object> a = (Map<String, Object>) baseline.getOrDefault("environment", Map.of());
+        Map<String, Object> b = (Map<String, Object>) current.getOrDefault("environment", Map.of());
+        List<String> differences = new ArrayList<>();
+        for (String key : Arrays.asList("java.version", "java.vm", "os", "cpu", "cpu.count", "memory.mb")) {
+            if (!String.valueOf(a.get(key)).equals(String.valueOf(b.get(key)))) {
+                differences.add(key + " (" + a.get(key) + " vs " + b.get(key) + ")");
+            }
+        }
+        return differences;
+    }
+}
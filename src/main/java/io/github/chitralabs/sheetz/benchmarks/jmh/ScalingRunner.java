@@ -0,0 +1,81 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Runs {@link ConcurrentReadBenchmark} and {@link ConcurrentWriteBenchmark} with 1, 2, 4, 8
+ * and N (available processors) threads. Writes the ops/s scaling curve per library to
+ * {@code results/scaling.txt}.
+ *
+ * <p>Accepts the usual JMH command line, e.g. {@code -p rowCount=10000 -f 1}. A benchmark
+ * pattern on the command line replaces the default selection.
+ *
+ * <pre>java -cp target/benchmarks.jar io.github.chitralabs.sheetz.benchmarks.jmh.ScalingRunner</pre>
+ */
+public class ScalingRunner {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+
+        TreeSet<Integer> threadCounts = new TreeSet<>();
+        for (int t : new int[]{1, 2, 4, 8, Runtime.getRuntime().availableProcessors()}) {
+            threadCounts.add(t);
+        }
+
+        // "Benchmark (rowCount)" -> threads -> ops/s
+        Map<String, Map<Integer, Double>> curves = new TreeMap<>();
+        for (int threads : threadCounts) {
+            OptionsBuilder options = new OptionsBuilder();
+            options.parent(cli).threads(threads);
+            if (cli.getIncludes().isEmpty()) {
+                options.include("Concurrent(Read|Write)Benchmark");
+            }
+            for (RunResult r : new Runner(options.build()).run()) {
+                String key = BenchmarkRunner.shortName(r.getParams().getBenchmark())
+                        + " (" + r.getParams().getParam("rowCount") + ")";
+                curves.computeIfAbsent(key, k -> new TreeMap<>())
+                        .put(threads, r.getPrimaryResult().getScore());
+            }
+        }
+
+        File output = new File("results/scaling.txt");
+        output.getParentFile().mkdirs();
+        try (PrintWriter out = new PrintWriter(output, "UTF-8")) {
+            out.println("# Throughput scaling (ops/s, higher is better)");
+            out.println("#");
+            out.println("# Each thread reads/writes its own files. speedup = ops/s at max threads / ops/s at 1 thread;");
+            out.println("# efficiency = speedup / threads. Flat or falling curves point at shared locks or caches.");
+            out.println("# Available processors: " + Runtime.getRuntime().availableProcessors());
+            out.println();
+            out.printf("%-50s", "Benchmark (rowCount)");
+            for (int threads : threadCounts) {
+                out.printf(" %10s", threads + " thr");
+            }
+            out.printf(" %9s %11s%n", "speedup", "efficiency");
+            for (Map.Entry<String, Map<Integer, Double>> curve : curves.entrySet()) {
+                out.printf("%-50s", curve.getKey());
+                for (int threads : threadCounts) {
+                    Double score = curve.getValue().get(threads);
+                    out.printf(" %10s", score == null ? "-" : String.format("%.2f", score));
+                }
+                Double single = curve.getValue().get(threadCounts.first());
+                Double max = curve.getValue().get(threadCounts.last());
+                if (single != null && max != null) {
+                    double speedup = max / single;
+                    out.printf(" %8.2fx %10.0f%%%n", speedup, 100 * speedup / threadCounts.last());
+                } else {
+                    out.println();
+                }
+            }
+        }
+    }
+}
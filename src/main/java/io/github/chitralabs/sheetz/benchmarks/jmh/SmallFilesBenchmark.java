@@ -0,0 +1,248 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.poiji.bind.Poiji;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many tiny workbooks: each invocation writes or reads a batch of {@value #FILES}
+ * distinct files of {@code rowsPerFile} rows, and the score is the time per file.
+ * At these sizes fixed per-call work dominates: workbook and style-table creation,
+ * ZIP setup, and model metadata lookup, which Sheetz caches across calls.
+ *
+ * <p>{@link SmallFilesRunner} runs this across row counts and splits each library's
+ * time per file into a fixed cost and a per-row cost. That intercept lumps all the
+ * per-call costs together, and with one model class Sheetz only ever reads its
+ * metadata from the cache. {@code sheetzReadFreshModel} reads each file into its own
+ * copy of {@link Product}, defined, initialized and reflected before the batch by
+ * {@link FreshModels}, so every call misses the cache: its fixed cost above
+ * {@code sheetzRead}'s is what the metadata cache saves per call. First-call cost in a
+ * fresh JVM is {@link ColdStartBenchmark}'s job.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SmallFilesBenchmark {
+
+    static final int FILES = 200;
+    private static final String DIR = "benchmark_data/small/";
+
+    @Param({"1", "50", "100", "500"})
+    private int rowsPerFile;
+
+    private List<Product> products;
+    private List<ProductEasyExcel> productsEasyExcel;
+    private String[] inputs;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        new File(DIR).mkdirs();
+        products = DataGenerator.generateProducts(rowsPerFile);
+        productsEasyExcel = DataGenerator.toEasyExcel(products);
+
+        String template = DIR + "read_" + rowsPerFile + ".xlsx";
+        if (!new File(template).exists()) {
+            DataGenerator.generateTestFile(template, rowsPerFile);
+        }
+        inputs = new String[FILES];
+        for (int i = 0; i < FILES; i++) {
+            inputs[i] = DIR + "read_" + rowsPerFile + "_" + i + ".xlsx";
+            Files.copy(new File(template).toPath(), new File(inputs[i]).toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String output(String library, int i) {
+        return OutputSizeProfiler.track(DIR + library + "_" + i + ".xlsx");
+    }
+
+    // ── Write ──────────────────────────────────────────
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void sheetzWrite() throws Exception {
+        for (int i = 0; i < FILES; i++) {
+            Sheetz.write(products, output("sheetz", i));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void poiWrite() throws Exception {
+        for (int i = 0; i < FILES; i++) {
+            try (OutputStream out = new FileOutputStream(output("poi", i))) {
+                ProductIO.poiWrite(products, out);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void poiStreamingWrite() throws Exception {
+        for (int i = 0; i < FILES; i++) {
+            try (OutputStream out = new FileOutputStream(output("poi_sxssf", i))) {
+                ProductIO.poiStreamingWrite(products, out);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void easyExcelWrite() throws Exception {
+        for (int i = 0; i < FILES; i++) {
+            try (OutputStream out = new FileOutputStream(output("easyexcel", i))) {
+                ProductIO.easyExcelWrite(productsEasyExcel, out);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void fastExcelWrite() throws Exception {
+        for (int i = 0; i < FILES; i++) {
+            try (OutputStream out = new FileOutputStream(output("fastexcel", i))) {
+                ProductIO.fastExcelWrite(products, out);
+            }
+        }
+    }
+
+    // ── Read ───────────────────────────────────────────
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void sheetzRead(Blackhole bh) throws Exception {
+        for (String input : inputs) {
+            bh.consume(Sheetz.read(input, Product.class));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void sheetzReadFreshModel(FreshModels models, Blackhole bh) throws Exception {
+        for (int i = 0; i < FILES; i++) {
+            bh.consume(Sheetz.read(inputs[i], models.classes[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void poiRead(Blackhole bh) throws Exception {
+        for (String input : inputs) {
+            try (InputStream in = new FileInputStream(input)) {
+                bh.consume(ProductIO.poiRead(in));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void easyExcelRead(Blackhole bh) throws Exception {
+        for (String input : inputs) {
+            try (InputStream in = new FileInputStream(input)) {
+                bh.consume(ProductIO.easyExcelRead(in));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void fastExcelRead(Blackhole bh) throws Exception {
+        for (String input : inputs) {
+            try (InputStream in = new FileInputStream(input)) {
+                bh.consume(ProductIO.fastExcelRead(in));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void poijiRead(Blackhole bh) {
+        for (String input : inputs) {
+            bh.consume(Poiji.fromExcel(new File(input), Product.class));
+        }
+    }
+
+    // ── Uncached model classes ─────────────────────────
+
+    /**
+     * {@value #FILES} copies of {@link Product} no library has seen, new for every batch.
+     * Each copy is linked, initialized and has its fields, their annotations and its
+     * constructor reflected here, so the JVM's first-use work per class stays out of the
+     * timed loop and only Sheetz's own metadata lookup is left in it.
+     *
+     * <p>If Sheetz's cache holds its {@code Class} keys strongly, no copy is ever unloaded:
+     * every batch adds {@value #FILES} entries and classes, and the cache grows and rehashes
+     * inside the timed loop for the whole fork. Rehashing is amortized per entry; metaspace
+     * grows by {@value #FILES} classes per batch until the fork ends.
+     */
+    @State(Scope.Thread)
+    public static class FreshModels {
+
+        private static final byte[] PRODUCT_BYTES = productBytes();
+
+        final Class<?>[] classes = new Class<?>[FILES];
+
+        @Setup(Level.Invocation)
+        public void define() throws ReflectiveOperationException {
+            for (int i = 0; i < FILES; i++) {
+                Class<?> c = Class.forName(Product.class.getName(), true, new ModelCopyLoader(PRODUCT_BYTES));
+                for (Field field : c.getDeclaredFields()) {
+                    field.getDeclaredAnnotations();
+                }
+                c.getDeclaredConstructor();
+                classes[i] = c;
+            }
+        }
+
+        private static byte[] productBytes() {
+            try (InputStream in = Product.class.getResourceAsStream(Product.class.getSimpleName() + ".class")) {
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Defines its own {@link Product} from the class file bytes and delegates every other
+     * class, so the copy shares the annotation types but is a distinct {@code Class}.
+     */
+    static final class ModelCopyLoader extends ClassLoader {
+
+        private final byte[] bytes;
+
+        ModelCopyLoader(byte[] bytes) {
+            super(SmallFilesBenchmark.class.getClassLoader());
+            this.bytes = bytes;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(Product.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> c = findLoadedClass(name);
+                return c != null ? c : defineClass(name, bytes, 0, bytes.length);
+            }
+        }
+    }
+}
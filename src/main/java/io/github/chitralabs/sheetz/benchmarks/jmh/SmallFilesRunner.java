@@ -0,0 +1,80 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs {@link SmallFilesBenchmark} and fits each library's time per file against rows per
+ * file as {@code fixed + perRow * rows}. The intercept is the per-call overhead paid by
+ * every tiny export, and the slope is the cost each row adds. The report also gives the
+ * fixed share of a 100-row file, and the difference between the intercepts of
+ * {@code sheetzReadFreshModel} and {@code sheetzRead}: the per-call cost of model metadata
+ * lookup that Sheetz's cache saves.
+ *
+ * <p>Accepts the usual JMH command line. Writes {@code results/small-files.txt}.
+ *
+ * <pre>java -cp target/benchmarks.jar io.github.chitralabs.sheetz.benchmarks.jmh.SmallFilesRunner</pre>
+ */
+public class SmallFilesRunner {
+
+    private static final int TYPICAL_ROWS = 100;
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(cli);
+        if (cli.getIncludes().isEmpty()) {
+            options.include(SmallFilesBenchmark.class.getSimpleName());
+        }
+
+        // benchmark -> rowsPerFile -> µs per file
+        Map<String, TreeMap<Integer, Double>> series = new TreeMap<>();
+        for (RunResult r : new Runner(options.build()).run()) {
+            series.computeIfAbsent(BenchmarkRunner.shortName(r.getParams().getBenchmark()), k -> new TreeMap<>())
+                    .put(Integer.parseInt(r.getParams().getParam("rowsPerFile")), r.getPrimaryResult().getScore());
+        }
+
+        File output = new File("results/small-files.txt");
+        output.getParentFile().mkdirs();
+        try (PrintWriter out = new PrintWriter(output, "UTF-8")) {
+            out.println("# Per-file cost of small workbooks (" + SmallFilesBenchmark.FILES + " files per batch)");
+            out.println("#");
+            out.println("# fixed  = intercept of us/file vs rows per file: per-call overhead");
+            out.println("# perRow = slope, us per row");
+            out.println("# share  = fixed / total at " + TYPICAL_ROWS + " rows per file");
+            out.println();
+            out.printf("%-40s %12s %10s %8s   %s%n", "Benchmark", "fixed us", "perRow us", "share", "us/file by rows");
+            Map<String, SweepRunner.Line> fits = new TreeMap<>();
+            for (Map.Entry<String, TreeMap<Integer, Double>> e : series.entrySet()) {
+                double[] x = e.getValue().keySet().stream().mapToDouble(Integer::doubleValue).toArray();
+                double[] y = e.getValue().values().stream().mapToDouble(Double::doubleValue).toArray();
+                StringBuilder points = new StringBuilder();
+                e.getValue().forEach((rows, us) -> points.append(String.format("%d: %.0f  ", rows, us)));
+                if (x.length < 2) {
+                    out.printf("%-40s %12s %10s %8s   %s%n", e.getKey(), "-", "-", "-", points);
+                    continue;
+                }
+                SweepRunner.Line line = SweepRunner.Line.fit(x, y, 0, x.length);
+                fits.put(e.getKey(), line);
+                double share = line.intercept / line.at(TYPICAL_ROWS);
+                out.printf("%-40s %12.1f %10.2f %7.0f%%   %s%n",
+                        e.getKey(), line.intercept, line.slope, 100 * share, points);
+            }
+
+            SweepRunner.Line cached = fits.get("SmallFilesBenchmark.sheetzRead");
+            SweepRunner.Line uncached = fits.get("SmallFilesBenchmark.sheetzReadFreshModel");
+            if (cached != null && uncached != null) {
+                out.println();
+                out.printf("Sheetz metadata cache saves %.1f us per call (fixed cost %.1f us uncached, %.1f us cached)%n",
+                        uncached.intercept - cached.intercept, uncached.intercept, cached.intercept);
+            }
+        }
+    }
+}
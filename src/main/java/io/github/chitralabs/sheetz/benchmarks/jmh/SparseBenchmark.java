@@ -0,0 +1,299 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.read.listener.ReadListener;
+import com.poiji.bind.Poiji;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.dhatim.fastexcel.Workbook;
+import org.dhatim.fastexcel.Worksheet;
+import org.dhatim.fastexcel.reader.ReadableWorkbook;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * {@link ReadBenchmark} and {@link WriteBenchmark} on sparse data from
+ * {@link DataGenerator#generateSparseProducts}: {@code sparsity} percent of the data
+ * cells are empty, in any column including the name, and some rows are entirely blank
+ * (about 59% of them at 90).
+ *
+ * <p>Writers leave null fields out, so a blank cell has no {@code <c>} element, rows get
+ * shorter, and a blank row is an empty {@code <row>} or missing altogether, depending on
+ * the writer. Readers must skip the missing cells and map them to {@code null}. Sheetz,
+ * Poiji and EasyExcel do that through their binders, and POI and FastExcel through the
+ * null-safe mappings below: {@code ReadBenchmark.poiRead} would throw on a missing cell,
+ * and {@code fastExcelRead} on the empty text FastExcel returns for one. Whether a blank
+ * row comes back as an all-null object or not at all is up to each library, so the row
+ * counts differ. At the end of each trial the benchmark's read is run once more, or its
+ * output read back, and the rows with at least one value are checked against the input.
+ *
+ * <p>Compare each library at {@code sparsity=0} with its own score at 60 and 90 to see
+ * whether it gets cheaper as cells disappear, or still pays per column.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SparseBenchmark {
+
+    @Param({"10000", "100000"})
+    private int rowCount;
+
+    /** Percent of data cells that are blank. */
+    @Param({"0", "60", "90"})
+    private int sparsity;
+
+    private String testFile;
+    private List<Product> products;
+    private List<ProductEasyExcel> productsEasyExcel;
+    private long nonEmptyRows;
+    private String written;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        new File("benchmark_data").mkdirs();
+        testFile = "benchmark_data/sparse_" + rowCount + "_" + sparsity + ".xlsx";
+        if (!new File(testFile).exists()) {
+            DataGenerator.generateSparseTestFile(testFile, rowCount, sparsity);
+        }
+        products = DataGenerator.generateSparseProducts(rowCount, sparsity);
+        productsEasyExcel = DataGenerator.toEasyExcel(products);
+        nonEmptyRows = nonEmptyRows(products);
+    }
+
+    /** Runs the trial's read once more, or reads its output back, and checks the rows that hold values. */
+    @TearDown(Level.Trial)
+    public void verify(BenchmarkParams params) throws Exception {
+        String method = params.getBenchmark().substring(params.getBenchmark().lastIndexOf('.') + 1);
+        long found;
+        if (method.endsWith("Read")) {
+            found = nonEmptyRows((List<?>) getClass().getMethod(method).invoke(this));
+        } else {
+            found = nonEmptyRowsWritten(written);
+        }
+        if (found != nonEmptyRows) {
+            throw new IllegalStateException(method + " has " + found + " rows with values, expected " + nonEmptyRows);
+        }
+    }
+
+    private String output(String library) {
+        written = "benchmark_data/sparse_" + library + ".xlsx";
+        return OutputSizeProfiler.track(written);
+    }
+
+    // ── Read ───────────────────────────────────────────
+
+    @Benchmark
+    public List<Product> sheetzRead() throws Exception {
+        return Sheetz.read(testFile, Product.class);
+    }
+
+    @Benchmark
+    public List<Product> poiRead() throws Exception {
+        List<Product> result = new ArrayList<>();
+        try (FileInputStream fis = new FileInputStream(testFile);
+             XSSFWorkbook workbook = new XSSFWorkbook(fis)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+                Row row = sheet.getRow(i);
+                if (row == null) continue;
+                Product p = new Product();
+                Cell name = row.getCell(0);
+                Cell price = row.getCell(1);
+                Cell inStock = row.getCell(2);
+                Cell category = row.getCell(3);
+                Cell quantity = row.getCell(4);
+                p.name = name == null ? null : name.getStringCellValue();
+                p.price = price == null ? null : price.getNumericCellValue();
+                p.inStock = inStock == null ? null : inStock.getBooleanCellValue();
+                p.category = category == null ? null : category.getStringCellValue();
+                p.quantity = quantity == null ? null : (int) quantity.getNumericCellValue();
+                result.add(p);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ProductEasyExcel> easyExcelRead() {
+        List<ProductEasyExcel> result = new ArrayList<>();
+        EasyExcel.read(testFile, ProductEasyExcel.class, new ReadListener<ProductEasyExcel>() {
+            @Override
+            public void invoke(ProductEasyExcel data, AnalysisContext context) {
+                result.add(data);
+            }
+
+            @Override
+            public void doAfterAllAnalysed(AnalysisContext context) {
+            }
+        }).sheet().doRead();
+        return result;
+    }
+
+    @Benchmark
+    public List<Product> fastExcelRead() throws Exception {
+        List<Product> result = new ArrayList<>();
+        try (FileInputStream fis = new FileInputStream(testFile);
+             ReadableWorkbook wb = new ReadableWorkbook(fis)) {
+            try (Stream<org.dhatim.fastexcel.reader.Row> rows = wb.getFirstSheet().openStream()) {
+                rows.skip(1).forEach(row -> {
+                    Product p = new Product();
+                    p.name = fastExcelText(row, 0);
+                    String price = fastExcelText(row, 1);
+                    p.price = price == null ? null : Double.valueOf(price);
+                    String inStock = fastExcelText(row, 2);
+                    p.inStock = inStock == null ? null : "1".equals(inStock) || "true".equalsIgnoreCase(inStock);
+                    p.category = fastExcelText(row, 3);
+                    String quantity = fastExcelText(row, 4);
+                    p.quantity = quantity == null ? null : (int) Double.parseDouble(quantity);
+                    result.add(p);
+                });
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Product> poijiRead() {
+        return Poiji.fromExcel(new File(testFile), Product.class);
+    }
+
+    // ── Write ──────────────────────────────────────────
+
+    @Benchmark
+    public void sheetzWrite() throws Exception {
+        Sheetz.write(products, output("sheetz"));
+    }
+
+    @Benchmark
+    public void poiWrite() throws Exception {
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            poiFill(workbook.createSheet("Products"));
+            try (FileOutputStream fos = new FileOutputStream(output("poi"))) {
+                workbook.write(fos);
+            }
+        }
+    }
+
+    @Benchmark
+    public void poiStreamingWrite() throws Exception {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+        try {
+            poiFill(workbook.createSheet("Products"));
+            try (FileOutputStream fos = new FileOutputStream(output("poi_streaming"))) {
+                workbook.write(fos);
+            }
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    @Benchmark
+    public void easyExcelWrite() {
+        EasyExcel.write(output("easyexcel"), ProductEasyExcel.class)
+                .sheet("Products")
+                .doWrite(productsEasyExcel);
+    }
+
+    @Benchmark
+    public void fastExcelWrite() throws Exception {
+        try (OutputStream os = new FileOutputStream(output("fastexcel"))) {
+            Workbook wb = new Workbook(os, "Benchmark", "1.0");
+            Worksheet ws = wb.newWorksheet("Products");
+
+            for (int c = 0; c < ProductIO.HEADERS.length; c++) {
+                ws.value(0, c, ProductIO.HEADERS[c]);
+            }
+
+            for (int i = 0; i < products.size(); i++) {
+                Product p = products.get(i);
+                int row = i + 1;
+                if (p.name != null) ws.value(row, 0, p.name);
+                if (p.price != null) ws.value(row, 1, p.price);
+                if (p.inStock != null) ws.value(row, 2, p.inStock.toString());
+                if (p.category != null) ws.value(row, 3, p.category);
+                if (p.quantity != null) ws.value(row, 4, p.quantity);
+            }
+
+            wb.finish();
+        }
+    }
+
+    // ── Null-safe mapping ──────────────────────────────
+
+    /** Header and rows with no cell created for a null field, for XSSF and SXSSF alike. */
+    private void poiFill(Sheet sheet) {
+        Row header = sheet.createRow(0);
+        for (int c = 0; c < ProductIO.HEADERS.length; c++) {
+            header.createCell(c).setCellValue(ProductIO.HEADERS[c]);
+        }
+
+        for (int i = 0; i < products.size(); i++) {
+            Product p = products.get(i);
+            Row row = sheet.createRow(i + 1);
+            if (p.name != null) row.createCell(0).setCellValue(p.name);
+            if (p.price != null) row.createCell(1).setCellValue(p.price);
+            if (p.inStock != null) row.createCell(2).setCellValue(p.inStock);
+            if (p.category != null) row.createCell(3).setCellValue(p.category);
+            if (p.quantity != null) row.createCell(4).setCellValue(p.quantity);
+        }
+    }
+
+    // ── Verification ───────────────────────────────────
+
+    /** Rows with at least one non-null field, whatever the model class. */
+    private static long nonEmptyRows(List<?> rows) throws IllegalAccessException {
+        long count = 0;
+        for (Object row : rows) {
+            for (Field field : row.getClass().getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) continue;
+                field.setAccessible(true);
+                if (field.get(row) != null) {
+                    count++;
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+
+    /** Data rows of {@code path} with at least one non-empty cell, read with FastExcel. */
+    private static long nonEmptyRowsWritten(String path) throws Exception {
+        try (ReadableWorkbook wb = new ReadableWorkbook(new File(path));
+             Stream<org.dhatim.fastexcel.reader.Row> rows = wb.getFirstSheet().openStream()) {
+            return rows.skip(1).filter(row -> {
+                for (int c = 0; c < ProductIO.HEADERS.length; c++) {
+                    if (fastExcelText(row, c) != null) return true;
+                }
+                return false;
+            }).count();
+        }
+    }
+
+    /** The cell's text, or {@code null} if the cell is missing: FastExcel returns {@code ""} for both. */
+    private static String fastExcelText(org.dhatim.fastexcel.reader.Row row, int column) {
+        String text = row.getCellText(column);
+        return text.isEmpty() ? null : text;
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.read.listener.ReadListener;
+import com.poiji.bind.Poiji;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import io.github.chitralabs.sheetz.reader.StreamingReader;
+import org.dhatim.fastexcel.reader.ReadableWorkbook;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Constant-memory reads: every library streams the sheet into a consumer that
+ * discards each row, so heap use reflects the reader and not a result list.
+ *
+ * <p>Each iteration is one full pass over the file. Divide the score by {@code rowCount}
+ * for the per-row cost, and run with {@link HeapProfiler} to see whether heap stays flat:
+ * <pre>java -jar target/benchmarks.jar StreamingReadBenchmark -prof io.github.chitralabs.sheetz.benchmarks.jmh.HeapProfiler</pre>
+ *
+ * <p>Row counts stop at 1M because an .xlsx sheet holds at most 1,048,576 rows.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(2)
+public class StreamingReadBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int rowCount;
+
+    private String testFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        testFile = "benchmark_data/read_" + rowCount + ".xlsx";
+        File f = new File(testFile);
+        if (!f.exists()) {
+            DataGenerator.generateTestFile(testFile, rowCount);
+        }
+    }
+
+    @Benchmark
+    public void sheetzStream(Blackhole bh) throws Exception {
+        try (StreamingReader<Product> reader = Sheetz.stream(testFile, Product.class)) {
+            for (Product p : reader) {
+                bh.consume(p);
+            }
+        }
+    }
+
+    @Benchmark
+    public void poiEventStream(Blackhole bh) throws Exception {
+        PoiEventReader.read(testFile, 5, (rowNum, cells) -> {
+            if (rowNum > 0) {
+                Product p = new Product();
+                p.name = cells[0];
+                p.price = Double.parseDouble(cells[1]);
+                p.inStock = "TRUE".equals(cells[2]);
+                p.category = cells[3];
+                p.quantity = (int) Double.parseDouble(cells[4]);
+                bh.consume(p);
+            }
+            return true;
+        });
+    }
+
+    @Benchmark
+    public void easyExcelStream(Blackhole bh) throws Exception {
+        EasyExcel.read(testFile, ProductEasyExcel.class, new ReadListener<ProductEasyExcel>() {
+            @Override
+            public void invoke(ProductEasyExcel data, AnalysisContext context) {
+                bh.consume(data);
+            }
+
+            @Override
+            public void doAfterAllAnalysed(AnalysisContext context) {
+            }
+        }).sheet().doRead();
+    }
+
+    @Benchmark
+    public void fastExcelStream(Blackhole bh) throws Exception {
+        try (FileInputStream fis = new FileInputStream(testFile);
+             ReadableWorkbook wb = new ReadableWorkbook(fis)) {
+            try (Stream<org.dhatim.fastexcel.reader.Row> rows = wb.getFirstSheet().openStream()) {
+                rows.skip(1).forEach(row -> {
+                    Product p = new Product();
+                    p.name = row.getCellText(0);
+                    p.price = Double.parseDouble(row.getCellText(1));
+                    String inStockText = row.getCellText(2);
+                    p.inStock = "1".equals(inStockText) || "true".equalsIgnoreCase(inStockText);
+                    p.category = row.getCellText(3);
+                    p.quantity = (int) Double.parseDouble(row.getCellText(4));
+                    bh.consume(p);
+                });
+            }
+        }
+    }
+
+    @Benchmark
+    public void poijiStream(Blackhole bh) throws Exception {
+        Poiji.fromExcel(new File(testFile), Product.class, bh::consume);
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.ExcelWriter;
+import com.alibaba.excel.write.metadata.WriteSheet;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.WorkbookBuilder;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.dhatim.fastexcel.Workbook;
+import org.dhatim.fastexcel.Worksheet;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Very large writes fed from {@link DataGenerator}'s lazy row source, so the fixture
+ * never sits in heap and {@link HeapProfiler} shows only what the library retains.
+ * Each library uses its streaming write path: Sheetz with a lazy list, SXSSF with a
+ * 100-row window, EasyExcel in batches through one {@link ExcelWriter}, FastExcel
+ * with periodic {@code flush()}.
+ *
+ * <p>An .xlsx sheet holds at most 1,048,576 rows, so rows are split into sheets of
+ * {@value #SHEET_ROWS}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class StreamingWriteBenchmark {
+
+    static final int SHEET_ROWS = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"1000000", "10000000"})
+    private int rowCount;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        new File("benchmark_data").mkdirs();
+    }
+
+    private int sheetCount() {
+        return (rowCount + SHEET_ROWS - 1) / SHEET_ROWS;
+    }
+
+    private int sheetRows(int sheet) {
+        return Math.min(SHEET_ROWS, rowCount - sheet * SHEET_ROWS);
+    }
+
+    @Benchmark
+    public void sheetzWrite() throws Exception {
+        List<Product> products = DataGenerator.lazyProducts(rowCount);
+        WorkbookBuilder workbook = Sheetz.workbook();
+        for (int s = 0; s < sheetCount(); s++) {
+            workbook.sheet("Products " + (s + 1), products.subList(s * SHEET_ROWS, s * SHEET_ROWS + sheetRows(s)));
+        }
+        workbook.write(OutputSizeProfiler.track("benchmark_data/stream_sheetz.xlsx"));
+    }
+
+    @Benchmark
+    public void poiWrite() throws Exception {
+        Iterator<Product> products = DataGenerator.productIterator(rowCount);
+        SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+        try {
+            for (int s = 0; s < sheetCount(); s++) {
+                Sheet sheet = workbook.createSheet("Products " + (s + 1));
+                Row header = sheet.createRow(0);
+                for (int c = 0; c < ProductIO.HEADERS.length; c++) {
+                    header.createCell(c).setCellValue(ProductIO.HEADERS[c]);
+                }
+                for (int i = 1; i <= sheetRows(s); i++) {
+                    Product p = products.next();
+                    Row row = sheet.createRow(i);
+                    row.createCell(0).setCellValue(p.name);
+                    row.createCell(1).setCellValue(p.price);
+                    row.createCell(2).setCellValue(p.inStock);
+                    row.createCell(3).setCellValue(p.category);
+                    row.createCell(4).setCellValue(p.quantity);
+                }
+            }
+            try (FileOutputStream fos = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/stream_poi.xlsx"))) {
+                workbook.write(fos);
+            }
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    @Benchmark
+    public void easyExcelWrite() throws Exception {
+        Iterator<Product> products = DataGenerator.productIterator(rowCount);
+        List<ProductEasyExcel> batch = new ArrayList<>(BATCH_SIZE);
+        ExcelWriter writer = EasyExcel.write(OutputSizeProfiler.track("benchmark_data/stream_easyexcel.xlsx"), ProductEasyExcel.class).build();
+        try {
+            for (int s = 0; s < sheetCount(); s++) {
+                WriteSheet sheet = EasyExcel.writerSheet(s, "Products " + (s + 1)).build();
+                for (int remaining = sheetRows(s); remaining > 0; remaining -= batch.size()) {
+                    batch.clear();
+                    while (batch.size() < Math.min(BATCH_SIZE, remaining)) {
+                        batch.add(DataGenerator.toEasyExcel(products.next()));
+                    }
+                    writer.write(batch, sheet);
+                }
+            }
+        } finally {
+            writer.finish();
+        }
+    }
+
+    @Benchmark
+    public void fastExcelWrite() throws Exception {
+        Iterator<Product> products = DataGenerator.productIterator(rowCount);
+        try (OutputStream os = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/stream_fastexcel.xlsx"))) {
+            Workbook wb = new Workbook(os, "Benchmark", "1.0");
+            for (int s = 0; s < sheetCount(); s++) {
+                Worksheet ws = wb.newWorksheet("Products " + (s + 1));
+                for (int c = 0; c < ProductIO.HEADERS.length; c++) {
+                    ws.value(0, c, ProductIO.HEADERS[c]);
+                }
+                for (int row = 1; row <= sheetRows(s); row++) {
+                    Product p = products.next();
+                    ws.value(row, 0, p.name);
+                    ws.value(row, 1, p.price);
+                    ws.value(row, 2, p.inStock.toString());
+                    ws.value(row, 3, p.category);
+                    ws.value(row, 4, p.quantity);
+                    if (row % BATCH_SIZE == 0) {
+                        ws.flush();
+                    }
+                }
+                ws.finish();
+            }
+            wb.finish();
+        }
+    }
+}
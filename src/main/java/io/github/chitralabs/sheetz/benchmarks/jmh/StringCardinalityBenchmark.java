@@ -0,0 +1,133 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.poiji.bind.Poiji;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read and write by {@link DataGenerator.StringProfile}: the same {@code Product} rows with
+ * unique, low-cardinality, long free-text or digit-only text columns. Text cells in .xlsx
+ * go through the shared-strings table (SST). Writers deduplicate into it. Readers load it
+ * whole (XSSF, FastExcel), look entries up on demand (POI event model) or cache it
+ * (EasyExcel moves large tables off-heap).
+ *
+ * <p>Run with {@code -prof gc} or {@link HeapProfiler} to see the SST in allocation and
+ * retained heap. Scores across profiles at the same row count isolate the text cost,
+ * because the numeric columns are identical.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class StringCardinalityBenchmark {
+
+    @Param({"UNIQUE", "LOW_CARDINALITY", "LONG_TEXT", "MOSTLY_NUMERIC"})
+    private DataGenerator.StringProfile stringProfile;
+
+    @Param({"10000", "100000"})
+    private int rowCount;
+
+    private String testFile;
+    private List<Product> products;
+    private List<ProductEasyExcel> productsEasyExcel;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        testFile = "benchmark_data/strings_" + stringProfile.name().toLowerCase() + "_" + rowCount + ".xlsx";
+        if (!new File(testFile).exists()) {
+            DataGenerator.generateTestFile(testFile, rowCount, stringProfile);
+        }
+        products = DataGenerator.generateProducts(rowCount, stringProfile);
+        productsEasyExcel = DataGenerator.toEasyExcel(products);
+    }
+
+    // ── Read ───────────────────────────────────────────
+
+    @Benchmark
+    public List<Product> sheetzRead() throws Exception {
+        return Sheetz.read(testFile, Product.class);
+    }
+
+    @Benchmark
+    public List<Product> poiRead() throws Exception {
+        try (InputStream in = new FileInputStream(testFile)) {
+            return ProductIO.poiRead(in);
+        }
+    }
+
+    @Benchmark
+    public void poiEventRead(Blackhole bh) throws Exception {
+        PoiEventReader.read(testFile, ProductIO.HEADERS.length, (rowNum, cells) -> {
+            bh.consume(cells[0]);
+            bh.consume(cells[3]);
+            return true;
+        });
+    }
+
+    @Benchmark
+    public List<ProductEasyExcel> easyExcelRead() throws Exception {
+        try (InputStream in = new FileInputStream(testFile)) {
+            return ProductIO.easyExcelRead(in);
+        }
+    }
+
+    @Benchmark
+    public List<Product> fastExcelRead() throws Exception {
+        try (InputStream in = new FileInputStream(testFile)) {
+            return ProductIO.fastExcelRead(in);
+        }
+    }
+
+    @Benchmark
+    public List<Product> poijiRead() throws Exception {
+        return Poiji.fromExcel(new File(testFile), Product.class);
+    }
+
+    // ── Write ──────────────────────────────────────────
+
+    @Benchmark
+    public void sheetzWrite() throws Exception {
+        Sheetz.write(products, OutputSizeProfiler.track("benchmark_data/strings_sheetz.xlsx"));
+    }
+
+    @Benchmark
+    public void poiWrite() throws Exception {
+        try (OutputStream out = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/strings_poi.xlsx"))) {
+            ProductIO.poiWrite(products, out);
+        }
+    }
+
+    @Benchmark
+    public void poiStreamingWrite() throws Exception {
+        try (OutputStream out = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/strings_poi_streaming.xlsx"))) {
+            ProductIO.poiStreamingWrite(products, out);
+        }
+    }
+
+    @Benchmark
+    public void easyExcelWrite() throws Exception {
+        try (OutputStream out = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/strings_easyexcel.xlsx"))) {
+            ProductIO.easyExcelWrite(productsEasyExcel, out);
+        }
+    }
+
+    @Benchmark
+    public void fastExcelWrite() throws Exception {
+        try (OutputStream out = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/strings_fastexcel.xlsx"))) {
+            ProductIO.fastExcelWrite(products, out);
+        }
+    }
+}
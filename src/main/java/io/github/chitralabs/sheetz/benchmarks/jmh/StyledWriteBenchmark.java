@@ -0,0 +1,361 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.metadata.data.DataFormatData;
+import com.alibaba.excel.write.builder.ExcelWriterBuilder;
+import com.alibaba.excel.write.handler.CellWriteHandler;
+import com.alibaba.excel.write.handler.SheetWriteHandler;
+import com.alibaba.excel.write.handler.context.CellWriteHandlerContext;
+import com.alibaba.excel.write.handler.context.SheetWriteHandlerContext;
+import com.alibaba.excel.write.metadata.style.WriteCellStyle;
+import com.alibaba.excel.write.metadata.style.WriteFont;
+import com.alibaba.excel.write.style.HorizontalCellStyleStrategy;
+import com.alibaba.excel.write.style.column.AbstractColumnWidthStyleStrategy;
+import com.alibaba.excel.write.style.column.LongestMatchColumnWidthStyleStrategy;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.ListedProduct;
+import io.github.chitralabs.sheetz.benchmarks.model.ListedProductStyled;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.dhatim.fastexcel.BorderSide;
+import org.dhatim.fastexcel.Workbook;
+import org.dhatim.fastexcel.Worksheet;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes with the formatting a real export carries: a bold, filled header row with a
+ * bottom border, a currency format on the price, a date format on the listing date, a
+ * rose fill on "In Stock" cells that are {@code false}, a frozen header row, and column
+ * widths. Each library uses its native mechanism: POI {@link CellStyle}s (XSSF and SXSSF),
+ * EasyExcel style strategies and write handlers, FastExcel {@code style()}, and Sheetz
+ * {@code @Column(format, width)}.
+ *
+ * <p>{@code style} separates the costs:
+ * <ul>
+ *   <li>{@code plain}: values only, no styles or widths;</li>
+ *   <li>{@code styled}: the full style set with fixed column widths;</li>
+ *   <li>{@code autosize}: the same styles, with widths measured from the content.</li>
+ * </ul>
+ * {@code styled - plain} is the style-table cost, {@code autosize - styled} the auto-size
+ * cost. POI uses {@code autoSizeColumn} (SXSSF after {@code trackAllColumnsForAutoSizing}),
+ * EasyExcel {@link LongestMatchColumnWidthStyleStrategy}. FastExcel has no auto-size, so
+ * it tracks the longest text per column and sets the width, as callers do: lengths are
+ * computed from the values, not by formatting them, and the date and boolean columns have
+ * fixed lengths.
+ *
+ * <p>Sheetz formats through annotations only ({@link ListedProductStyled}): number and date
+ * formats and fixed widths, without header styling, conditional fills or auto-size, so it
+ * has its own {@code sheetzStyle} parameter with {@code plain} and {@code styled}.
+ * EasyExcel runs with {@code useDefaultStyle(false)} throughout, so its plain variant
+ * carries no header style either.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class StyledWriteBenchmark {
+
+    static final String[] HEADERS = {"Product Name", "Price", "In Stock", "Category", "Quantity", "Listed On"};
+    /** Fixed widths in characters, the same as {@link ListedProductStyled}'s. */
+    static final int[] WIDTHS = {28, 12, 10, 14, 10, 12};
+    static final String CURRENCY_FORMAT = "$#,##0.00";
+    static final String QUANTITY_FORMAT = "#,##0";
+    static final String DATE_FORMAT = "yyyy-mm-dd";
+
+    private static final LocalDate FIRST_LISTING = LocalDate.of(2020, 1, 1);
+
+    @Param({"1000", "10000", "100000"})
+    private int rowCount;
+
+    private List<ListedProduct> products;
+    private List<ListedProductStyled> productsStyled;
+
+    @State(Scope.Benchmark)
+    public static class Styling {
+        @Param({"plain", "styled", "autosize"})
+        String style;
+
+        boolean styled() {
+            return !style.equals("plain");
+        }
+
+        boolean autosize() {
+            return style.equals("autosize");
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SheetzStyling {
+        @Param({"plain", "styled"})
+        String sheetzStyle;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        new File("benchmark_data").mkdirs();
+        List<Product> source = DataGenerator.generateProducts(rowCount);
+        products = new ArrayList<>(rowCount);
+        productsStyled = new ArrayList<>(rowCount);
+        for (int i = 0; i < source.size(); i++) {
+            LocalDate listedOn = FIRST_LISTING.plusDays(i % 1826);
+            products.add(new ListedProduct(source.get(i), listedOn));
+            productsStyled.add(new ListedProductStyled(source.get(i), listedOn));
+        }
+    }
+
+    @Benchmark
+    public void sheetzWrite(SheetzStyling styling) throws Exception {
+        String path = OutputSizeProfiler.track("benchmark_data/styled_sheetz.xlsx");
+        if (styling.sheetzStyle.equals("styled")) {
+            Sheetz.write(productsStyled, path);
+        } else {
+            Sheetz.write(products, path);
+        }
+    }
+
+    @Benchmark
+    public void poiWrite(Styling styling) throws Exception {
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("Products");
+            poiFill(sheet, styling);
+            try (OutputStream out = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/styled_poi.xlsx"))) {
+                workbook.write(out);
+            }
+        }
+    }
+
+    @Benchmark
+    public void poiStreamingWrite(Styling styling) throws Exception {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+        try {
+            SXSSFSheet sheet = workbook.createSheet("Products");
+            if (styling.autosize()) {
+                sheet.trackAllColumnsForAutoSizing();
+            }
+            poiFill(sheet, styling);
+            try (OutputStream out = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/styled_poi_streaming.xlsx"))) {
+                workbook.write(out);
+            }
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    @Benchmark
+    public void easyExcelWrite(Styling styling) throws Exception {
+        ExcelWriterBuilder writer = EasyExcel.write(OutputSizeProfiler.track("benchmark_data/styled_easyexcel.xlsx"), ListedProduct.class)
+                .useDefaultStyle(false);
+        if (styling.styled()) {
+            writer.registerWriteHandler(new HorizontalCellStyleStrategy(easyExcelHeaderStyle(), (WriteCellStyle) null))
+                    .registerWriteHandler(new EasyExcelContentStyle())
+                    .registerWriteHandler(new EasyExcelFreezeHeader())
+                    .registerWriteHandler(styling.autosize()
+                            ? new LongestMatchColumnWidthStyleStrategy()
+                            : new EasyExcelFixedWidths());
+        }
+        writer.sheet("Products").doWrite(products);
+    }
+
+    @Benchmark
+    public void fastExcelWrite(Styling styling) throws Exception {
+        try (OutputStream os = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/styled_fastexcel.xlsx"))) {
+            Workbook wb = new Workbook(os, "Benchmark", "1.0");
+            Worksheet ws = wb.newWorksheet("Products");
+            int[] longest = new int[HEADERS.length];
+
+            for (int c = 0; c < HEADERS.length; c++) {
+                ws.value(0, c, HEADERS[c]);
+                longest[c] = HEADERS[c].length();
+            }
+
+            for (int i = 0; i < products.size(); i++) {
+                ListedProduct p = products.get(i);
+                int row = i + 1;
+                ws.value(row, 0, p.getName());
+                ws.value(row, 1, p.getPrice());
+                ws.value(row, 2, p.getInStock().toString());
+                ws.value(row, 3, p.getCategory());
+                ws.value(row, 4, p.getQuantity());
+                ws.value(row, 5, p.getListedOn());
+                if (styling.styled() && !p.getInStock()) {
+                    ws.style(row, 2).fillColor("FFC7CE").set();
+                }
+                if (styling.autosize()) {
+                    longest[0] = Math.max(longest[0], p.getName().length());
+                    longest[1] = Math.max(longest[1], currencyLength(p.getPrice()));
+                    longest[2] = Math.max(longest[2], p.getInStock() ? 4 : 5);
+                    longest[3] = Math.max(longest[3], p.getCategory().length());
+                    longest[4] = Math.max(longest[4], groupedLength(p.getQuantity()));
+                    longest[5] = Math.max(longest[5], DATE_FORMAT.length());
+                }
+            }
+
+            if (styling.styled()) {
+                ws.range(0, 0, 0, HEADERS.length - 1).style()
+                        .bold().fillColor("D9D9D9").borderStyle(BorderSide.BOTTOM, "thin").set();
+                ws.range(1, 1, rowCount, 1).style().format(CURRENCY_FORMAT).set();
+                ws.range(1, 4, rowCount, 4).style().format(QUANTITY_FORMAT).set();
+                ws.range(1, 5, rowCount, 5).style().format(DATE_FORMAT).set();
+                ws.freezePane(0, 1);
+                for (int c = 0; c < HEADERS.length; c++) {
+                    ws.width(c, styling.autosize() ? Math.min(longest[c] + 2, 255) : WIDTHS[c]);
+                }
+            }
+
+            wb.finish();
+        }
+    }
+
+    /** Length of {@code value}, already rounded to cents, in {@value #CURRENCY_FORMAT}, without formatting it. */
+    static int currencyLength(double value) {
+        long cents = Math.round(value * 100);
+        return (cents < 0 ? 1 : 0) + 1 + groupedLength(Math.abs(cents) / 100) + 3;
+    }
+
+    /** Length of {@code value} with thousands separators ({@value #QUANTITY_FORMAT}), without formatting it. */
+    static int groupedLength(long value) {
+        int digits = 1;
+        for (long v = Math.abs(value); v >= 10; v /= 10) {
+            digits++;
+        }
+        return (value < 0 ? 1 : 0) + digits + (digits - 1) / 3;
+    }
+
+    // ── POI ────────────────────────────────────────────
+
+    /** Header, rows and (if styled) styles, widths and the frozen header, for XSSF and SXSSF alike. */
+    private void poiFill(Sheet sheet, Styling styling) {
+        CellStyle header = null;
+        CellStyle currency = null;
+        CellStyle quantity = null;
+        CellStyle date = null;
+        CellStyle outOfStock = null;
+        if (styling.styled()) {
+            org.apache.poi.ss.usermodel.Workbook workbook = sheet.getWorkbook();
+            Font bold = workbook.createFont();
+            bold.setBold(true);
+            header = workbook.createCellStyle();
+            header.setFont(bold);
+            header.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+            header.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+            header.setBorderBottom(BorderStyle.THIN);
+            currency = workbook.createCellStyle();
+            currency.setDataFormat(workbook.createDataFormat().getFormat(CURRENCY_FORMAT));
+            quantity = workbook.createCellStyle();
+            quantity.setDataFormat(workbook.createDataFormat().getFormat(QUANTITY_FORMAT));
+            date = workbook.createCellStyle();
+            date.setDataFormat(workbook.createDataFormat().getFormat(DATE_FORMAT));
+            outOfStock = workbook.createCellStyle();
+            outOfStock.setFillForegroundColor(IndexedColors.ROSE.getIndex());
+            outOfStock.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        }
+
+        Row headerRow = sheet.createRow(0);
+        for (int c = 0; c < HEADERS.length; c++) {
+            headerRow.createCell(c).setCellValue(HEADERS[c]);
+            if (header != null) {
+                headerRow.getCell(c).setCellStyle(header);
+            }
+        }
+
+        for (int i = 0; i < products.size(); i++) {
+            ListedProduct p = products.get(i);
+            Row row = sheet.createRow(i + 1);
+            row.createCell(0).setCellValue(p.getName());
+            row.createCell(1).setCellValue(p.getPrice());
+            row.createCell(2).setCellValue(p.getInStock());
+            row.createCell(3).setCellValue(p.getCategory());
+            row.createCell(4).setCellValue(p.getQuantity());
+            row.createCell(5).setCellValue(p.getListedOn());
+            if (styling.styled()) {
+                row.getCell(1).setCellStyle(currency);
+                row.getCell(4).setCellStyle(quantity);
+                row.getCell(5).setCellStyle(date);
+                if (!p.getInStock()) {
+                    row.getCell(2).setCellStyle(outOfStock);
+                }
+            }
+        }
+
+        if (styling.styled()) {
+            sheet.createFreezePane(0, 1);
+            for (int c = 0; c < HEADERS.length; c++) {
+                if (styling.autosize()) {
+                    sheet.autoSizeColumn(c);
+                } else {
+                    sheet.setColumnWidth(c, WIDTHS[c] * 256);
+                }
+            }
+        }
+    }
+
+    // ── EasyExcel ──────────────────────────────────────
+
+    private static WriteCellStyle easyExcelHeaderStyle() {
+        WriteFont bold = new WriteFont();
+        bold.setBold(true);
+        WriteCellStyle header = new WriteCellStyle();
+        header.setWriteFont(bold);
+        header.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+        header.setFillPatternType(FillPatternType.SOLID_FOREGROUND);
+        header.setBorderBottom(BorderStyle.THIN);
+        return header;
+    }
+
+    /** Number and date formats by column, and the fill on out-of-stock cells. */
+    private static final class EasyExcelContentStyle implements CellWriteHandler {
+        @Override
+        public void afterCellDispose(CellWriteHandlerContext context) {
+            if (context.getHead() || context.getFirstCellData() == null) {
+                return;
+            }
+            int column = context.getColumnIndex();
+            if (column == 1 || column == 4 || column == 5) {
+                DataFormatData format = new DataFormatData();
+                format.setFormat(column == 1 ? CURRENCY_FORMAT : column == 4 ? QUANTITY_FORMAT : DATE_FORMAT);
+                context.getFirstCellData().getOrCreateStyle().setDataFormatData(format);
+            } else if (column == 2 && Boolean.FALSE.equals(context.getOriginalValue())) {
+                WriteCellStyle style = context.getFirstCellData().getOrCreateStyle();
+                style.setFillForegroundColor(IndexedColors.ROSE.getIndex());
+                style.setFillPatternType(FillPatternType.SOLID_FOREGROUND);
+            }
+        }
+    }
+
+    private static final class EasyExcelFixedWidths extends AbstractColumnWidthStyleStrategy {
+        @Override
+        protected void setColumnWidth(CellWriteHandlerContext context) {
+            if (context.getHead() && context.getRowIndex() == 0) {
+                int column = context.getColumnIndex();
+                context.getWriteSheetHolder().getSheet().setColumnWidth(column, WIDTHS[column] * 256);
+            }
+        }
+    }
+
+    private static final class EasyExcelFreezeHeader implements SheetWriteHandler {
+        @Override
+        public void afterSheetCreate(SheetWriteHandlerContext context) {
+            context.getWriteSheetHolder().getSheet().createFreezePane(0, 1);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs {@link WriteSweepBenchmark} and fits time against row count for each library,
+ * first as one line, then as the best two-segment piecewise line. The split with the
+ * lowest squared error marks the crossover between regimes (for Sheetz: XSSF below,
+ * SXSSF above). Each regime is reported as a fixed cost plus ms per 1K rows. For Sheetz
+ * the runner also compares the rows below the crossover with forced SXSSF
+ * ({@code poiStreamingWrite}).
+ *
+ * <p>Accepts the usual JMH command line. Writes {@code results/sxssf-sweep.txt}.
+ *
+ * <pre>java -cp target/benchmarks.jar io.github.chitralabs.sheetz.benchmarks.jmh.SweepRunner</pre>
+ */
+public class SweepRunner {
+
+    /** A two-segment fit must remove at least this share of the one-line error to count as a regime change. */
+    private static final double REGIME_CHANGE_SSE_REDUCTION = 0.75;
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(cli);
+        if (cli.getIncludes().isEmpty()) {
+            options.include(WriteSweepBenchmark.class.getSimpleName());
+        }
+
+        // benchmark -> rowCount -> ms/op
+        Map<String, TreeMap<Integer, Double>> series = new TreeMap<>();
+        for (RunResult r : new Runner(options.build()).run()) {
+            series.computeIfAbsent(BenchmarkRunner.shortName(r.getParams().getBenchmark()), k -> new TreeMap<>())
+                    .put(Integer.parseInt(r.getParams().getParam("rowCount")), r.getPrimaryResult().getScore());
+        }
+
+        File output = new File("results/sxssf-sweep.txt");
+        output.getParentFile().mkdirs();
+        try (PrintWriter out = new PrintWriter(output, "UTF-8")) {
+            out.println("# Write time vs row count: one-line fit and best two-segment fit");
+            out.println("#");
+            out.println("# fixed = intercept (ms), per1K = slope (ms per 1,000 rows)");
+            out.println("# A split that removes >= " + (int) (REGIME_CHANGE_SSE_REDUCTION * 100)
+                    + "% of the one-line squared error is flagged as a regime change.");
+            out.println();
+
+            int sheetzCrossover = -1;
+            for (Map.Entry<String, TreeMap<Integer, Double>> e : series.entrySet()) {
+                double[] x = e.getValue().keySet().stream().mapToDouble(Integer::doubleValue).toArray();
+                double[] y = e.getValue().values().stream().mapToDouble(Double::doubleValue).toArray();
+                out.println(e.getKey());
+                for (int i = 0; i < x.length; i++) {
+                    out.printf("  %8.0f rows  %10.3f ms  %8.4f ms/1K rows%n", x[i], y[i], 1000 * y[i] / x[i]);
+                }
+                if (x.length < 2 * Segmented.MIN_POINTS) {
+                    out.println("  (need at least " + 2 * Segmented.MIN_POINTS + " row counts to fit two regimes)");
+                    out.println();
+                    continue;
+                }
+                Line whole = Line.fit(x, y, 0, x.length);
+                Segmented split = Segmented.fit(x, y);
+                out.printf("  splits tested from %.0f to %.0f rows; a switch below or past those is not detectable%n",
+                        x[Segmented.MIN_POINTS], x[x.length - Segmented.MIN_POINTS]);
+                out.printf("  one line:   fixed %8.2f ms, per1K %8.4f ms (SSE %.1f)%n", whole.intercept, 1000 * whole.slope, whole.sse);
+                out.printf("  below %6.0f: fixed %8.2f ms, per1K %8.4f ms%n", x[split.index], split.left.intercept, 1000 * split.left.slope);
+                out.printf("  from  %6.0f: fixed %8.2f ms, per1K %8.4f ms (SSE %.1f)%n", x[split.index], split.right.intercept, 1000 * split.right.slope, split.sse());
+                boolean regimeChange = whole.sse > 0 && split.sse() <= (1 - REGIME_CHANGE_SSE_REDUCTION) * whole.sse;
+                if (regimeChange) {
+                    double boundary = (x[split.index - 1] + x[split.index]) / 2;
+                    out.printf("  >> regime change between %.0f and %.0f rows (jump at boundary %+.1f ms)%n",
+                            x[split.index - 1], x[split.index], split.right.at(boundary) - split.left.at(boundary));
+                } else {
+                    out.println("  no regime change");
+                }
+                out.println();
+                if (e.getKey().endsWith("sheetzWrite") && regimeChange) {
+                    sheetzCrossover = (int) x[split.index];
+                }
+            }
+
+            TreeMap<Integer, Double> sheetzSeries = find(series, "sheetzWrite");
+            TreeMap<Integer, Double> sxssfSeries = find(series, "poiStreamingWrite");
+            if (sheetzCrossover > 0 && sxssfSeries != null) {
+                double sheetzMs = 0;
+                double sxssfMs = 0;
+                for (Map.Entry<Integer, Double> e : sheetzSeries.headMap(sheetzCrossover).entrySet()) {
+                    Double forced = sxssfSeries.get(e.getKey());
+                    if (forced == null) continue;
+                    sheetzMs += e.getValue();
+                    sxssfMs += forced;
+                }
+                if (sheetzMs > 0) {
+                    out.printf("Below %d rows, forced SXSSF (poiStreamingWrite) takes %.0f%% of sheetzWrite's time.%n",
+                            sheetzCrossover, 100 * sxssfMs / sheetzMs);
+                }
+            }
+        }
+    }
+
+    private static TreeMap<Integer, Double> find(Map<String, TreeMap<Integer, Double>> series, String method) {
+        return series.entrySet().stream()
+                .filter(e -> e.getKey().endsWith("." + method))
+                .map(Map.Entry::getValue)
+                .findFirst().orElse(null);
+    }
+
+    /** Least-squares line over {@code [from, to)}. */
+    static final class Line {
+        final double slope;
+        final double intercept;
+        final double sse;
+
+        private Line(double slope, double intercept, double sse) {
+            this.slope = slope;
+            this.intercept = intercept;
+            this.sse = sse;
+        }
+
+        double at(double rows) {
+            return intercept + slope * rows;
+        }
+
+        static Line fit(double[] x, double[] y, int from, int to) {
+            int n = to - from;
+            double sx = 0, sy = 0, sxx = 0, sxy = 0;
+            for (int i = from; i < to; i++) {
+                sx += x[i];
+                sy += y[i];
+                sxx += x[i] * x[i];
+                sxy += x[i] * y[i];
+            }
+            double denominator = n * sxx - sx * sx;
+            double slope = denominator == 0 ? 0 : (n * sxy - sx * sy) / denominator;
+            double intercept = (sy - slope * sx) / n;
+            double sse = 0;
+            for (int i = from; i < to; i++) {
+                double r = y[i] - (intercept + slope * x[i]);
+                sse += r * r;
+            }
+            return new Line(slope, intercept, sse);
+        }
+    }
+
+    /** Best split into {@code [0, index)} and {@code [index, n)}, each with at least {@link #MIN_POINTS} points. */
+    static final class Segmented {
+        static final int MIN_POINTS = 3;
+
+        final int index;
+        final Line left;
+        final Line right;
+
+        private Segmented(int index, Line left, Line right) {
+            this.index = index;
+            this.left = left;
+            this.right = right;
+        }
+
+        double sse() {
+            return left.sse + right.sse;
+        }
+
+        static Segmented fit(double[] x, double[] y) {
+            Segmented best = null;
+            for (int k = MIN_POINTS; k <= x.length - MIN_POINTS; k++) {
+                Segmented candidate = new Segmented(k, Line.fit(x, y, 0, k), Line.fit(x, y, k, x.length));
+                if (best == null || candidate.sse() < best.sse()) {
+                    best = candidate;
+                }
+            }
+            return best;
+        }
+    }
+}
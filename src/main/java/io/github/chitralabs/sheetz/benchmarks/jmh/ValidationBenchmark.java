@@ -0,0 +1,111 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.ValidationResult;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.StrictProduct;
+import io.github.chitralabs.sheetz.benchmarks.model.ValidatedProduct;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * The cost of validating inbound files with Sheetz, against a plain read of the same file:
+ * <ul>
+ *   <li>{@code sheetzRead}: {@code Sheetz.read} into {@link Product}, which declares no rules;</li>
+ *   <li>{@code sheetzValidateLight}: {@code Sheetz.validate} into {@link ValidatedProduct},
+ *       with the name and price required;</li>
+ *   <li>{@code sheetzValidateHeavy}: {@code Sheetz.validate} into {@link StrictProduct}, with
+ *       every column required, then price and quantity ranges and name and category patterns
+ *       on the rows that passed, collecting one message per broken rule.</li>
+ * </ul>
+ * {@code @Column} expresses presence only, so the range and pattern rules run in the caller,
+ * over the validated rows, as a service layering its own rules on Sheetz would do.
+ *
+ * <p>{@code invalidPercent} is the share of rows {@link DataGenerator#generateInvalidProducts}
+ * breaks (missing name, negative price, quantity out of range, malformed name). The score at
+ * 10 against 0 is the cost of collecting errors. Run with {@code -prof gc} (or
+ * {@link BenchmarkRunner}): {@code gc.alloc.rate.norm} above {@code sheetzRead}'s is the
+ * allocation validation adds.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ValidationBenchmark {
+
+    static final double MAX_PRICE = 10_000.0;
+    static final int MAX_QUANTITY = 10_000;
+    static final Pattern NAME = Pattern.compile("[A-Za-z]+ Model-\\d+");
+    static final Pattern CATEGORY = Pattern.compile("[A-Z][a-z]+");
+
+    @Param({"100000", "500000"})
+    private int rowCount;
+
+    /** Percent of rows that break a rule. */
+    @Param({"0", "1", "10"})
+    private int invalidPercent;
+
+    private String testFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        testFile = "benchmark_data/invalid_" + rowCount + "_" + invalidPercent + ".xlsx";
+        if (!new File(testFile).exists()) {
+            DataGenerator.generateInvalidTestFile(testFile, rowCount, invalidPercent);
+        }
+    }
+
+    @Benchmark
+    public List<Product> sheetzRead() throws Exception {
+        return Sheetz.read(testFile, Product.class);
+    }
+
+    @Benchmark
+    public ValidationResult<ValidatedProduct> sheetzValidateLight() {
+        return Sheetz.validate(testFile, ValidatedProduct.class);
+    }
+
+    @Benchmark
+    public void sheetzValidateHeavy(Blackhole bh) {
+        ValidationResult<StrictProduct> result = Sheetz.validate(testFile, StrictProduct.class);
+        List<StrictProduct> rows = result.validRows();
+        List<StrictProduct> valid = new ArrayList<>(rows.size());
+        List<String> errors = new ArrayList<>();
+        for (StrictProduct p : rows) {
+            if (checkRules(p, errors)) {
+                valid.add(p);
+            }
+        }
+        bh.consume(result.errors().size());
+        bh.consume(valid);
+        bh.consume(errors);
+    }
+
+    // ── Rules beyond @Column ───────────────────────────
+
+    /** Adds a message to {@code errors} for each broken rule, and returns whether the row passed. */
+    private static boolean checkRules(StrictProduct p, List<String> errors) {
+        int before = errors.size();
+        if (p.price <= 0 || p.price > MAX_PRICE) {
+            errors.add("Price " + p.price + " out of range (0, " + MAX_PRICE + "] for '" + p.name + "'");
+        }
+        if (p.quantity < 0 || p.quantity > MAX_QUANTITY) {
+            errors.add("Quantity " + p.quantity + " out of range [0, " + MAX_QUANTITY + "] for '" + p.name + "'");
+        }
+        if (!NAME.matcher(p.name).matches()) {
+            errors.add("Product Name '" + p.name + "' does not match " + NAME.pattern());
+        }
+        if (!CATEGORY.matcher(p.category).matches()) {
+            errors.add("Category '" + p.category + "' does not match " + CATEGORY.pattern() + " for '" + p.name + "'");
+        }
+        return errors.size() == before;
+    }
+}
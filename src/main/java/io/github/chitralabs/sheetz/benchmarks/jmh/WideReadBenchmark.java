@@ -0,0 +1,193 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.read.listener.ReadListener;
+import com.poiji.bind.Poiji;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.wide.ColumnType;
+import io.github.chitralabs.sheetz.benchmarks.model.wide.WideSchema;
+import io.github.chitralabs.sheetz.benchmarks.model.wide.WideStatus;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.dhatim.fastexcel.reader.ReadableWorkbook;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Reads of the generated wide models in {@code model.wide}, by column count and type mix.
+ * Sheetz, Poiji and EasyExcel bind to the model through their annotations. POI and
+ * FastExcel have no binder, so they convert each cell to its column's Java type into an
+ * {@code Object[]} per row, the typed equivalent of the hand-written mapping in
+ * {@link ReadBenchmark}.
+ *
+ * <p>Divide the score by {@code rowCount * columns} for the per-cell cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class WideReadBenchmark {
+
+    @Param({"20", "80", "150"})
+    private int columns;
+
+    @Param({"TEXT", "NUMERIC", "MIXED"})
+    private WideSchema.TypeMix typeMix;
+
+    @Param({"1000", "10000"})
+    private int rowCount;
+
+    private String testFile;
+    private Class<?> modelClass;
+    private ColumnType[] columnTypes;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        modelClass = WideSchema.modelClass(columns, typeMix);
+        columnTypes = WideSchema.columns(columns, typeMix);
+        testFile = "benchmark_data/wide_" + columns + "_" + typeMix.name().toLowerCase() + "_" + rowCount + ".xlsx";
+        if (!new File(testFile).exists()) {
+            DataGenerator.generateWideTestFile(testFile, columns, typeMix, rowCount);
+        }
+    }
+
+    @Benchmark
+    public List<?> sheetzRead() throws Exception {
+        return Sheetz.read(testFile, modelClass);
+    }
+
+    @Benchmark
+    public List<?> poijiRead() throws Exception {
+        return Poiji.fromExcel(new File(testFile), modelClass);
+    }
+
+    @Benchmark
+    public List<Object> easyExcelRead() throws Exception {
+        List<Object> result = new ArrayList<>();
+        EasyExcel.read(testFile, modelClass, new ReadListener<Object>() {
+            @Override
+            public void invoke(Object data, AnalysisContext context) {
+                result.add(data);
+            }
+
+            @Override
+            public void doAfterAllAnalysed(AnalysisContext context) {
+            }
+        }).sheet().doRead();
+        return result;
+    }
+
+    @Benchmark
+    public List<Object[]> poiRead() throws Exception {
+        List<Object[]> result = new ArrayList<>();
+        try (FileInputStream fis = new FileInputStream(testFile);
+             Workbook workbook = new XSSFWorkbook(fis)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+                Row row = sheet.getRow(i);
+                if (row == null) continue;
+                Object[] values = new Object[columnTypes.length];
+                for (int c = 0; c < columnTypes.length; c++) {
+                    values[c] = poiValue(row.getCell(c), columnTypes[c]);
+                }
+                result.add(values);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Object[]> fastExcelRead() throws Exception {
+        List<Object[]> result = new ArrayList<>();
+        try (FileInputStream fis = new FileInputStream(testFile);
+             ReadableWorkbook wb = new ReadableWorkbook(fis)) {
+            try (Stream<org.dhatim.fastexcel.reader.Row> rows = wb.getFirstSheet().openStream()) {
+                rows.skip(1).forEach(row -> {
+                    Object[] values = new Object[columnTypes.length];
+                    for (int c = 0; c < columnTypes.length && c < row.getCellCount(); c++) {
+                        values[c] = fastExcelValue(row.getCell(c), columnTypes[c]);
+                    }
+                    result.add(values);
+                });
+            }
+        }
+        return result;
+    }
+
+    // ── Per-cell conversion ────────────────────────────
+
+    static Object poiValue(Cell cell, ColumnType type) {
+        if (cell == null || cell.getCellType() == CellType.BLANK) return null;
+        boolean text = cell.getCellType() == CellType.STRING;
+        switch (type) {
+            case STRING:
+            case NULLABLE_STRING:
+                return cell.getStringCellValue();
+            case INTEGER:
+                return text ? Integer.valueOf(cell.getStringCellValue()) : (int) cell.getNumericCellValue();
+            case DOUBLE:
+            case NULLABLE_DOUBLE:
+                return text ? Double.valueOf(cell.getStringCellValue()) : cell.getNumericCellValue();
+            case BOOLEAN:
+                return text ? Boolean.valueOf(cell.getStringCellValue()) : cell.getBooleanCellValue();
+            case BIG_DECIMAL:
+                return text ? new BigDecimal(cell.getStringCellValue()) : BigDecimal.valueOf(cell.getNumericCellValue());
+            case LOCAL_DATE:
+                return text ? LocalDate.parse(cell.getStringCellValue()) : cell.getLocalDateTimeCellValue().toLocalDate();
+            case LOCAL_DATE_TIME:
+                return text ? parseDateTime(cell.getStringCellValue()) : cell.getLocalDateTimeCellValue();
+            case ENUM:
+                return WideStatus.valueOf(cell.getStringCellValue());
+            default:
+                throw new IllegalArgumentException("Unsupported column type " + type);
+        }
+    }
+
+    static Object fastExcelValue(org.dhatim.fastexcel.reader.Cell cell, ColumnType type) {
+        if (cell == null || cell.getType() == org.dhatim.fastexcel.reader.CellType.EMPTY) return null;
+        boolean text = cell.getType() == org.dhatim.fastexcel.reader.CellType.STRING;
+        switch (type) {
+            case STRING:
+            case NULLABLE_STRING:
+                return cell.getText();
+            case INTEGER:
+                return text ? Integer.valueOf(cell.getText()) : cell.asNumber().intValue();
+            case DOUBLE:
+            case NULLABLE_DOUBLE:
+                return text ? Double.valueOf(cell.getText()) : cell.asNumber().doubleValue();
+            case BOOLEAN:
+                return text ? Boolean.valueOf(cell.getText()) : cell.asBoolean();
+            case BIG_DECIMAL:
+                return text ? new BigDecimal(cell.getText()) : cell.asNumber();
+            case LOCAL_DATE:
+                return text ? LocalDate.parse(cell.getText()) : cell.asDate().toLocalDate();
+            case LOCAL_DATE_TIME:
+                return text ? parseDateTime(cell.getText()) : cell.asDate();
+            case ENUM:
+                return WideStatus.valueOf(cell.getText());
+            default:
+                throw new IllegalArgumentException("Unsupported column type " + type);
+        }
+    }
+
+    /** Accepts ISO ({@code 2020-01-01T10:00}) and space-separated ({@code 2020-01-01 10:00:00}) text. */
+    private static LocalDateTime parseDateTime(String text) {
+        return LocalDateTime.parse(text.replace(' ', 'T'));
+    }
+}
@@ -0,0 +1,161 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.alibaba.excel.EasyExcel;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.wide.ColumnType;
+import io.github.chitralabs.sheetz.benchmarks.model.wide.WideSchema;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.dhatim.fastexcel.Workbook;
+import org.dhatim.fastexcel.Worksheet;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes of the generated wide models in {@code model.wide}, by column count and type mix.
+ * Sheetz and EasyExcel write the annotated models. POI (SXSSF, as any 150-column export
+ * would use) and FastExcel write the same values from typed {@code Object[]} rows, with a
+ * date format on date columns.
+ *
+ * <p>Divide the score by {@code rowCount * columns} for the per-cell cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class WideWriteBenchmark {
+
+    private static final String DATE_FORMAT = "yyyy-mm-dd";
+    private static final String DATE_TIME_FORMAT = "yyyy-mm-dd hh:mm:ss";
+
+    @Param({"20", "80", "150"})
+    private int columns;
+
+    @Param({"TEXT", "NUMERIC", "MIXED"})
+    private WideSchema.TypeMix typeMix;
+
+    @Param({"1000", "10000"})
+    private int rowCount;
+
+    private Class<?> modelClass;
+    private ColumnType[] columnTypes;
+    private Object[][] rows;
+    private List<?> models;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        new File("benchmark_data").mkdirs();
+        modelClass = WideSchema.modelClass(columns, typeMix);
+        columnTypes = WideSchema.columns(columns, typeMix);
+        rows = DataGenerator.generateWideRows(columnTypes, rowCount);
+        models = DataGenerator.toWideModels(modelClass, rows);
+    }
+
+    @Benchmark
+    public void sheetzWrite() throws Exception {
+        Sheetz.write(models, OutputSizeProfiler.track("benchmark_data/wide_sheetz.xlsx"));
+    }
+
+    @Benchmark
+    public void easyExcelWrite() throws Exception {
+        EasyExcel.write(OutputSizeProfiler.track("benchmark_data/wide_easyexcel.xlsx"), modelClass)
+                .sheet("Data")
+                .doWrite(models);
+    }
+
+    @Benchmark
+    public void poiStreamingWrite() throws Exception {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+        try {
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat(DATE_FORMAT));
+            CellStyle dateTimeStyle = workbook.createCellStyle();
+            dateTimeStyle.setDataFormat(workbook.createDataFormat().getFormat(DATE_TIME_FORMAT));
+
+            Sheet sheet = workbook.createSheet("Data");
+            Row header = sheet.createRow(0);
+            for (int c = 0; c < columnTypes.length; c++) {
+                header.createCell(c).setCellValue(WideSchema.header(c));
+            }
+            for (int i = 0; i < rows.length; i++) {
+                Row row = sheet.createRow(i + 1);
+                Object[] values = rows[i];
+                for (int c = 0; c < values.length; c++) {
+                    Object value = values[c];
+                    if (value == null) continue;
+                    Cell cell = row.createCell(c);
+                    if (value instanceof String) {
+                        cell.setCellValue((String) value);
+                    } else if (value instanceof Number) {
+                        cell.setCellValue(((Number) value).doubleValue());
+                    } else if (value instanceof Boolean) {
+                        cell.setCellValue((Boolean) value);
+                    } else if (value instanceof LocalDate) {
+                        cell.setCellValue((LocalDate) value);
+                        cell.setCellStyle(dateStyle);
+                    } else if (value instanceof LocalDateTime) {
+                        cell.setCellValue((LocalDateTime) value);
+                        cell.setCellStyle(dateTimeStyle);
+                    } else {
+                        cell.setCellValue(value.toString());
+                    }
+                }
+            }
+            try (FileOutputStream fos = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/wide_poi.xlsx"))) {
+                workbook.write(fos);
+            }
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    @Benchmark
+    public void fastExcelWrite() throws Exception {
+        try (OutputStream os = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/wide_fastexcel.xlsx"))) {
+            Workbook wb = new Workbook(os, "Benchmark", "1.0");
+            Worksheet ws = wb.newWorksheet("Data");
+            for (int c = 0; c < columnTypes.length; c++) {
+                ws.value(0, c, WideSchema.header(c));
+                if (columnTypes[c] == ColumnType.LOCAL_DATE) {
+                    ws.range(1, c, rows.length, c).style().format(DATE_FORMAT).set();
+                } else if (columnTypes[c] == ColumnType.LOCAL_DATE_TIME) {
+                    ws.range(1, c, rows.length, c).style().format(DATE_TIME_FORMAT).set();
+                }
+            }
+            for (int i = 0; i < rows.length; i++) {
+                Object[] values = rows[i];
+                for (int c = 0; c < values.length; c++) {
+                    Object value = values[c];
+                    if (value == null) continue;
+                    if (value instanceof String) {
+                        ws.value(i + 1, c, (String) value);
+                    } else if (value instanceof Number) {
+                        ws.value(i + 1, c, (Number) value);
+                    } else if (value instanceof Boolean) {
+                        ws.value(i + 1, c, value.toString());
+                    } else if (value instanceof LocalDate) {
+                        ws.value(i + 1, c, (LocalDate) value);
+                    } else if (value instanceof LocalDateTime) {
+                        ws.value(i + 1, c, (LocalDateTime) value);
+                    } else {
+                        ws.value(i + 1, c, value.toString());
+                    }
+                }
+            }
+            wb.finish();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write time from 10K to 110K rows in 5K steps, to find where Sheetz switches from
+ * in-memory XSSF to SXSSF streaming. {@code poiWrite} (always XSSF) and
+ * {@code poiStreamingWrite} (always SXSSF) bracket the two regimes. {@link SweepRunner}
+ * fits both and reports the crossover. Each regime needs at least
+ * {@code SweepRunner.Segmented.MIN_POINTS} row counts, so the sweep runs two steps past
+ * 100K: a switch at 100K is still a candidate split.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class WriteSweepBenchmark {
+
+    @Param({"10000", "15000", "20000", "25000", "30000", "35000", "40000", "45000", "50000", "55000",
+            "60000", "65000", "70000", "75000", "80000", "85000", "90000", "95000", "100000",
+            "105000", "110000"})
+    private int rowCount;
+
+    private List<Product> products;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        new File("benchmark_data").mkdirs();
+        products = DataGenerator.generateProducts(rowCount);
+    }
+
+    @Benchmark
+    public void sheetzWrite() throws Exception {
+        Sheetz.write(products, OutputSizeProfiler.track("benchmark_data/sweep_sheetz.xlsx"));
+    }
+
+    @Benchmark
+    public void poiWrite() throws Exception {
+        try (OutputStream os = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/sweep_poi.xlsx"))) {
+            ProductIO.poiWrite(products, os);
+        }
+    }
+
+    @Benchmark
+    public void poiStreamingWrite() throws Exception {
+        try (OutputStream os = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/sweep_poi_sxssf.xlsx"))) {
+            ProductIO.poiStreamingWrite(products, os);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.read.listener.ReadListener;
+import com.alibaba.excel.support.ExcelTypeEnum;
+import com.poiji.bind.Poiji;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ReadBenchmark} and {@link WriteBenchmark} on the legacy binary {@code .xls}
+ * format (BIFF8, POI's HSSF), with the same {@link DataGenerator} rows. Sheetz and Poiji
+ * pick the format from the file extension. POI uses {@link HSSFWorkbook}, and EasyExcel
+ * its {@link ExcelTypeEnum#XLS} reader and writer. FastExcel has no {@code .xls} support.
+ *
+ * <p>An {@code .xls} sheet holds at most 65,536 rows, so the row counts stop at 50,000.
+ * Compare with {@code ReadBenchmark}/{@code WriteBenchmark} at 1,000 and 10,000 rows for
+ * the cost of the format itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class XlsBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    private int rowCount;
+
+    private String testFile;
+    private List<Product> products;
+    private List<ProductEasyExcel> productsEasyExcel;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        new File("benchmark_data").mkdirs();
+        testFile = "benchmark_data/read_" + rowCount + ".xls";
+        if (!new File(testFile).exists()) {
+            DataGenerator.generateTestFile(testFile, rowCount);
+        }
+        products = DataGenerator.generateProducts(rowCount);
+        productsEasyExcel = DataGenerator.toEasyExcel(products);
+    }
+
+    // ── Read ───────────────────────────────────────────
+
+    @Benchmark
+    public List<Product> sheetzRead() throws Exception {
+        return Sheetz.read(testFile, Product.class);
+    }
+
+    @Benchmark
+    public List<Product> poiRead() throws Exception {
+        List<Product> result = new ArrayList<>();
+        try (FileInputStream fis = new FileInputStream(testFile);
+             HSSFWorkbook workbook = new HSSFWorkbook(fis)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+                Row row = sheet.getRow(i);
+                if (row == null) continue;
+                Product p = new Product();
+                p.name = row.getCell(0).getStringCellValue();
+                p.price = row.getCell(1).getNumericCellValue();
+                p.inStock = row.getCell(2).getBooleanCellValue();
+                p.category = row.getCell(3).getStringCellValue();
+                p.quantity = (int) row.getCell(4).getNumericCellValue();
+                result.add(p);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ProductEasyExcel> easyExcelRead() {
+        List<ProductEasyExcel> result = new ArrayList<>();
+        EasyExcel.read(testFile, ProductEasyExcel.class, new ReadListener<ProductEasyExcel>() {
+            @Override
+            public void invoke(ProductEasyExcel data, AnalysisContext context) {
+                result.add(data);
+            }
+
+            @Override
+            public void doAfterAllAnalysed(AnalysisContext context) {
+            }
+        }).excelType(ExcelTypeEnum.XLS).sheet().doRead();
+        return result;
+    }
+
+    @Benchmark
+    public List<Product> poijiRead() {
+        return Poiji.fromExcel(new File(testFile), Product.class);
+    }
+
+    // ── Write ──────────────────────────────────────────
+
+    @Benchmark
+    public void sheetzWrite() throws Exception {
+        Sheetz.write(products, OutputSizeProfiler.track("benchmark_data/write_sheetz.xls"));
+    }
+
+    @Benchmark
+    public void poiWrite() throws Exception {
+        try (HSSFWorkbook workbook = new HSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("Products");
+
+            Row header = sheet.createRow(0);
+            for (int c = 0; c < ProductIO.HEADERS.length; c++) {
+                header.createCell(c).setCellValue(ProductIO.HEADERS[c]);
+            }
+
+            for (int i = 0; i < products.size(); i++) {
+                Product p = products.get(i);
+                Row row = sheet.createRow(i + 1);
+                row.createCell(0).setCellValue(p.name);
+                row.createCell(1).setCellValue(p.price);
+                row.createCell(2).setCellValue(p.inStock);
+                row.createCell(3).setCellValue(p.category);
+                row.createCell(4).setCellValue(p.quantity);
+            }
+
+            try (FileOutputStream fos = new FileOutputStream(OutputSizeProfiler.track("benchmark_data/write_poi.xls"))) {
+                workbook.write(fos);
+            }
+        }
+    }
+
+    @Benchmark
+    public void easyExcelWrite() {
+        EasyExcel.write(OutputSizeProfiler.track("benchmark_data/write_easyexcel.xls"), ProductEasyExcel.class)
+                .excelType(ExcelTypeEnum.XLS)
+                .sheet("Products")
+                .doWrite(productsEasyExcel);
+    }
+}
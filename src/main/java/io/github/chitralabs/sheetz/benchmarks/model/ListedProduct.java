@@ -0,0 +1,67 @@
+package io.github.chitralabs.sheetz.benchmarks.model;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+import io.github.chitralabs.sheetz.annotation.Column;
+
+import java.time.LocalDate;
+
+/**
+ * {@link Product} plus a listing date, for the styled-write benchmarks (currency and date
+ * formats). Annotated for Sheetz (@Column, names only) and EasyExcel (@ExcelProperty).
+ * {@link ListedProductStyled} is the same model with Sheetz formats and widths.
+ */
+public class ListedProduct {
+
+    @Column("Product Name")
+    @ExcelProperty("Product Name")
+    private String name;
+
+    @Column("Price")
+    @ExcelProperty("Price")
+    private Double price;
+
+    @Column("In Stock")
+    @ExcelProperty("In Stock")
+    private Boolean inStock;
+
+    @Column("Category")
+    @ExcelProperty("Category")
+    private String category;
+
+    @Column("Quantity")
+    @ExcelProperty("Quantity")
+    private Integer quantity;
+
+    @Column("Listed On")
+    @ExcelProperty("Listed On")
+    private LocalDate listedOn;
+
+    public ListedProduct() {}
+
+    public ListedProduct(Product p, LocalDate listedOn) {
+        this.name = p.name;
+        this.price = p.price;
+        this.inStock = p.inStock;
+        this.category = p.category;
+        this.quantity = p.quantity;
+        this.listedOn = listedOn;
+    }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public Double getPrice() { return price; }
+    public void setPrice(Double price) { this.price = price; }
+
+    public Boolean getInStock() { return inStock; }
+    public void setInStock(Boolean inStock) { this.inStock = inStock; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public Integer getQuantity() { return quantity; }
+    public void setQuantity(Integer quantity) { this.quantity = quantity; }
+
+    public LocalDate getListedOn() { return listedOn; }
+    public void setListedOn(LocalDate listedOn) { this.listedOn = listedOn; }
+}
@@ -0,0 +1,68 @@
+package io.github.chitralabs.sheetz.benchmarks.model;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+import io.github.chitralabs.sheetz.annotation.Column;
+
+import java.time.LocalDate;
+
+/**
+ * {@link ListedProduct} with Sheetz's formatting: a currency format on the price, a date
+ * format on the listing date, and fixed column widths, all through {@code @Column}. The
+ * fields, accessors and other annotations match {@link ListedProduct}, so Sheetz's
+ * {@code styled - plain} measures the formats and widths, not the model's shape.
+ */
+public class ListedProductStyled {
+
+    @Column(value = "Product Name", width = 28)
+    @ExcelProperty("Product Name")
+    private String name;
+
+    @Column(value = "Price", format = "$#,##0.00", width = 12)
+    @ExcelProperty("Price")
+    private Double price;
+
+    @Column(value = "In Stock", width = 10)
+    @ExcelProperty("In Stock")
+    private Boolean inStock;
+
+    @Column(value = "Category", width = 14)
+    @ExcelProperty("Category")
+    private String category;
+
+    @Column(value = "Quantity", format = "#,##0", width = 10)
+    @ExcelProperty("Quantity")
+    private Integer quantity;
+
+    @Column(value = "Listed On", format = "yyyy-mm-dd", width = 12)
+    @ExcelProperty("Listed On")
+    private LocalDate listedOn;
+
+    public ListedProductStyled() {}
+
+    public ListedProductStyled(Product p, LocalDate listedOn) {
+        this.name = p.name;
+        this.price = p.price;
+        this.inStock = p.inStock;
+        this.category = p.category;
+        this.quantity = p.quantity;
+        this.listedOn = listedOn;
+    }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public Double getPrice() { return price; }
+    public void setPrice(Double price) { this.price = price; }
+
+    public Boolean getInStock() { return inStock; }
+    public void setInStock(Boolean inStock) { this.inStock = inStock; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public Integer getQuantity() { return quantity; }
+    public void setQuantity(Integer quantity) { this.quantity = quantity; }
+
+    public LocalDate getListedOn() { return listedOn; }
+    public void setListedOn(LocalDate listedOn) { this.listedOn = listedOn; }
+}
@@ -0,0 +1,28 @@
+package io.github.chitralabs.sheetz.benchmarks.model;
+
+import io.github.chitralabs.sheetz.annotation.Column;
+
+/**
+ * {@link Product} with every column required by Sheetz. The range and pattern rules that
+ * {@code @Column} cannot express are applied to the validated rows by the caller
+ * (see {@code ValidationBenchmark}).
+ */
+public class StrictProduct {
+
+    @Column(value = "Product Name", required = true)
+    public String name;
+
+    @Column(value = "Price", required = true)
+    public Double price;
+
+    @Column(value = "In Stock", required = true)
+    public Boolean inStock;
+
+    @Column(value = "Category", required = true)
+    public String category;
+
+    @Column(value = "Quantity", required = true)
+    public Integer quantity;
+
+    public StrictProduct() {}
+}
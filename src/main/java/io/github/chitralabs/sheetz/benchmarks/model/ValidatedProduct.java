@@ -0,0 +1,26 @@
+package io.github.chitralabs.sheetz.benchmarks.model;
+
+import io.github.chitralabs.sheetz.annotation.Column;
+
+/**
+ * {@link Product} with light Sheetz validation: the name and price are required.
+ */
+public class ValidatedProduct {
+
+    @Column(value = "Product Name", required = true)
+    public String name;
+
+    @Column(value = "Price", required = true)
+    public Double price;
+
+    @Column("In Stock")
+    public Boolean inStock;
+
+    @Column("Category")
+    public String category;
+
+    @Column("Quantity")
+    public Integer quantity;
+
+    public ValidatedProduct() {}
+}
@@ -0,0 +1,38 @@
+package io.github.chitralabs.sheetz.benchmarks.model.wide;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Column types used by the generated wide models. Nullable variants leave roughly
+ * one cell in five empty.
+ */
+public enum ColumnType {
+    STRING(String.class, false),
+    NULLABLE_STRING(String.class, true),
+    INTEGER(Integer.class, false),
+    DOUBLE(Double.class, false),
+    NULLABLE_DOUBLE(Double.class, true),
+    BOOLEAN(Boolean.class, false),
+    BIG_DECIMAL(BigDecimal.class, false),
+    LOCAL_DATE(LocalDate.class, false),
+    LOCAL_DATE_TIME(LocalDateTime.class, false),
+    ENUM(WideStatus.class, false);
+
+    private final Class<?> javaType;
+    private final boolean nullable;
+
+    ColumnType(Class<?> javaType, boolean nullable) {
+        this.javaType = javaType;
+        this.nullable = nullable;
+    }
+
+    public Class<?> javaType() {
+        return javaType;
+    }
+
+    public boolean nullable() {
+        return nullable;
+    }
+}
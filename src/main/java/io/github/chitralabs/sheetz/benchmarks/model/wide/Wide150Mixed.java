@@ -0,0 +1,1213 @@
+package io.github.chitralabs.sheetz.benchmarks.model.wide;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+import com.poiji.annotation.ExcelCellName;
+import io.github.chitralabs.sheetz.annotation.Column;
+
+/**
+ * Generated by {@link WideModelGenerator}: 150 columns, MIXED type mix. Do not edit.
+ */
+public class Wide150Mixed {
+
+    @Column("c001")
+    @ExcelCellName("c001")
+    @ExcelProperty("c001")
+    private String c001;
+
+    @Column("c002")
+    @ExcelCellName("c002")
+    @ExcelProperty("c002")
+    private Integer c002;
+
+    @Column("c003")
+    @ExcelCellName("c003")
+    @ExcelProperty("c003")
+    private Double c003;
+
+    @Column("c004")
+    @ExcelCellName("c004")
+    @ExcelProperty("c004")
+    private Boolean c004;
+
+    @Column("c005")
+    @ExcelCellName("c005")
+    @ExcelProperty("c005")
+    private java.time.LocalDate c005;
+
+    @Column("c006")
+    @ExcelCellName("c006")
+    @ExcelProperty("c006")
+    private java.math.BigDecimal c006;
+
+    @Column("c007")
+    @ExcelCellName("c007")
+    @ExcelProperty(value = "c007", converter = WideStatusConverter.class)
+    private WideStatus c007;
+
+    @Column("c008")
+    @ExcelCellName("c008")
+    @ExcelProperty("c008")
+    private java.time.LocalDateTime c008;
+
+    @Column("c009")
+    @ExcelCellName("c009")
+    @ExcelProperty("c009")
+    private String c009;
+
+    @Column("c010")
+    @ExcelCellName("c010")
+    @ExcelProperty("c010")
+    private Double c010;
+
+    @Column("c011")
+    @ExcelCellName("c011")
+    @ExcelProperty("c011")
+    private String c011;
+
+    @Column("c012")
+    @ExcelCellName("c012")
+    @ExcelProperty("c012")
+    private Integer c012;
+
+    @Column("c013")
+    @ExcelCellName("c013")
+    @ExcelProperty("c013")
+    private Double c013;
+
+    @Column("c014")
+    @ExcelCellName("c014")
+    @ExcelProperty("c014")
+    private Boolean c014;
+
+    @Column("c015")
+    @ExcelCellName("c015")
+    @ExcelProperty("c015")
+    private java.time.LocalDate c015;
+
+    @Column("c016")
+    @ExcelCellName("c016")
+    @ExcelProperty("c016")
+    private java.math.BigDecimal c016;
+
+    @Column("c017")
+    @ExcelCellName("c017")
+    @ExcelProperty(value = "c017", converter = WideStatusConverter.class)
+    private WideStatus c017;
+
+    @Column("c018")
+    @ExcelCellName("c018")
+    @ExcelProperty("c018")
+    private java.time.LocalDateTime c018;
+
+    @Column("c019")
+    @ExcelCellName("c019")
+    @ExcelProperty("c019")
+    private String c019;
+
+    @Column("c020")
+    @ExcelCellName("c020")
+    @ExcelProperty("c020")
+    private Double c020;
+
+    @Column("c021")
+    @ExcelCellName("c021")
+    @ExcelProperty("c021")
+    private String c021;
+
+    @Column("c022")
+    @ExcelCellName("c022")
+    @ExcelProperty("c022")
+    private Integer c022;
+
+    @Column("c023")
+    @ExcelCellName("c023")
+    @ExcelProperty("c023")
+    private Double c023;
+
+    @Column("c024")
+    @ExcelCellName("c024")
+    @ExcelProperty("c024")
+    private Boolean c024;
+
+    @Column("c025")
+    @ExcelCellName("c025")
+    @ExcelProperty("c025")
+    private java.time.LocalDate c025;
+
+    @Column("c026")
+    @ExcelCellName("c026")
+    @ExcelProperty("c026")
+    private java.math.BigDecimal c026;
+
+    @Column("c027")
+    @ExcelCellName("c027")
+    @ExcelProperty(value = "c027", converter = WideStatusConverter.class)
+    private WideStatus c027;
+
+    @Column("c028")
+    @ExcelCellName("c028")
+    @ExcelProperty("c028")
+    private java.time.LocalDateTime c028;
+
+    @Column("c029")
+    @ExcelCellName("c029")
+    @ExcelProperty("c029")
+    private String c029;
+
+    @Column("c030")
+    @ExcelCellName("c030")
+    @ExcelProperty("c030")
+    private Double c030;
+
+    @Column("c031")
+    @ExcelCellName("c031")
+    @ExcelProperty("c031")
+    private String c031;
+
+    @Column("c032")
+    @ExcelCellName("c032")
+    @ExcelProperty("c032")
+    private Integer c032;
+
+    @Column("c033")
+    @ExcelCellName("c033")
+    @ExcelProperty("c033")
+    private Double c033;
+
+    @Column("c034")
+    @ExcelCellName("c034")
+    @ExcelProperty("c034")
+    private Boolean c034;
+
+    @Column("c035")
+    @ExcelCellName("c035")
+    @ExcelProperty("c035")
+    private java.time.LocalDate c035;
+
+    @Column("c036")
+    @ExcelCellName("c036")
+    @ExcelProperty("c036")
+    private java.math.BigDecimal c036;
+
+    @Column("c037")
+    @ExcelCellName("c037")
+    @ExcelProperty(value = "c037", converter = WideStatusConverter.class)
+    private WideStatus c037;
+
+    @Column("c038")
+    @ExcelCellName("c038")
+    @ExcelProperty("c038")
+    private java.time.LocalDateTime c038;
+
+    @Column("c039")
+    @ExcelCellName("c039")
+    @ExcelProperty("c039")
+    private String c039;
+
+    @Column("c040")
+    @ExcelCellName("c040")
+    @ExcelProperty("c040")
+    private Double c040;
+
+    @Column("c041")
+    @ExcelCellName("c041")
+    @ExcelProperty("c041")
+    private String c041;
+
+    @Column("c042")
+    @ExcelCellName("c042")
+    @ExcelProperty("c042")
+    private Integer c042;
+
+    @Column("c043")
+    @ExcelCellName("c043")
+    @ExcelProperty("c043")
+    private Double c043;
+
+    @Column("c044")
+    @ExcelCellName("c044")
+    @ExcelProperty("c044")
+    private Boolean c044;
+
+    @Column("c045")
+    @ExcelCellName("c045")
+    @ExcelProperty("c045")
+    private java.time.LocalDate c045;
+
+    @Column("c046")
+    @ExcelCellName("c046")
+    @ExcelProperty("c046")
+    private java.math.BigDecimal c046;
+
+    @Column("c047")
+    @ExcelCellName("c047")
+    @ExcelProperty(value = "c047", converter = WideStatusConverter.class)
+    private WideStatus c047;
+
+    @Column("c048")
+    @ExcelCellName("c048")
+    @ExcelProperty("c048")
+    private java.time.LocalDateTime c048;
+
+    @Column("c049")
+    @ExcelCellName("c049")
+    @ExcelProperty("c049")
+    private String c049;
+
+    @Column("c050")
+    @ExcelCellName("c050")
+    @ExcelProperty("c050")
+    private Double c050;
+
+    @Column("c051")
+    @ExcelCellName("c051")
+    @ExcelProperty("c051")
+    private String c051;
+
+    @Column("c052")
+    @ExcelCellName("c052")
+    @ExcelProperty("c052")
+    private Integer c052;
+
+    @Column("c053")
+    @ExcelCellName("c053")
+    @ExcelProperty("c053")
+    private Double c053;
+
+    @Column("c054")
+    @ExcelCellName("c054")
+    @ExcelProperty("c054")
+    private Boolean c054;
+
+    @Column("c055")
+    @ExcelCellName("c055")
+    @ExcelProperty("c055")
+    private java.time.LocalDate c055;
+
+    @Column("c056")
+    @ExcelCellName("c056")
+    @ExcelProperty("c056")
+    private java.math.BigDecimal c056;
+
+    @Column("c057")
+    @ExcelCellName("c057")
+    @ExcelProperty(value = "c057", converter = WideStatusConverter.class)
+    private WideStatus c057;
+
+    @Column("c058")
+    @ExcelCellName("c058")
+    @ExcelProperty("c058")
+    private java.time.LocalDateTime c058;
+
+    @Column("c059")
+    @ExcelCellName("c059")
+    @ExcelProperty("c059")
+    private String c059;
+
+    @Column("c060")
+    @ExcelCellName("c060")
+    @ExcelProperty("c060")
+    private Double c060;
+
+    @Column("c061")
+    @ExcelCellName("c061")
+    @ExcelProperty("c061")
+    private String c061;
+
+    @Column("c062")
+    @ExcelCellName("c062")
+    @ExcelProperty("c062")
+    private Integer c062;
+
+    @Column("c063")
+    @ExcelCellName("c063")
+    @ExcelProperty("c063")
+    private Double c063;
+
+    @Column("c064")
+    @ExcelCellName("c064")
+    @ExcelProperty("c064")
+    private Boolean c064;
+
+    @Column("c065")
+    @ExcelCellName("c065")
+    @ExcelProperty("c065")
+    private java.time.LocalDate c065;
+
+    @Column("c066")
+    @ExcelCellName("c066")
+    @ExcelProperty("c066")
+    private java.math.BigDecimal c066;
+
+    @Column("c067")
+    @ExcelCellName("c067")
+    @ExcelProperty(value = "c067", converter = WideStatusConverter.class)
+    private WideStatus c067;
+
+    @Column("c068")
+    @ExcelCellName("c068")
+    @ExcelProperty("c068")
+    private java.time.LocalDateTime c068;
+
+    @Column("c069")
+    @ExcelCellName("c069")
+    @ExcelProperty("c069")
+    private String c069;
+
+    @Column("c070")
+    @ExcelCellName("c070")
+    @ExcelProperty("c070")
+    private Double c070;
+
+    @Column("c071")
+    @ExcelCellName("c071")
+    @ExcelProperty("c071")
+    private String c071;
+
+    @Column("c072")
+    @ExcelCellName("c072")
+    @ExcelProperty("c072")
+    private Integer c072;
+
+    @Column("c073")
+    @ExcelCellName("c073")
+    @ExcelProperty("c073")
+    private Double c073;
+
+    @Column("c074")
+    @ExcelCellName("c074")
+    @ExcelProperty("c074")
+    private Boolean c074;
+
+    @Column("c075")
+    @ExcelCellName("c075")
+    @ExcelProperty("c075")
+    private java.time.LocalDate c075;
+
+    @Column("c076")
+    @ExcelCellName("c076")
+    @ExcelProperty("c076")
+    private java.math.BigDecimal c076;
+
+    @Column("c077")
+    @ExcelCellName("c077")
+    @ExcelProperty(value = "c077", converter = WideStatusConverter.class)
+    private WideStatus c077;
+
+    @Column("c078")
+    @ExcelCellName("c078")
+    @ExcelProperty("c078")
+    private java.time.LocalDateTime c078;
+
+    @Column("c079")
+    @ExcelCellName("c079")
+    @ExcelProperty("c079")
+    private String c079;
+
+    @Column("c080")
+    @ExcelCellName("c080")
+    @ExcelProperty("c080")
+    private Double c080;
+
+    @Column("c081")
+    @ExcelCellName("c081")
+    @ExcelProperty("c081")
+    private String c081;
+
+    @Column("c082")
+    @ExcelCellName("c082")
+    @ExcelProperty("c082")
+    private Integer c082;
+
+    @Column("c083")
+    @ExcelCellName("c083")
+    @ExcelProperty("c083")
+    private Double c083;
+
+    @Column("c084")
+    @ExcelCellName("c084")
+    @ExcelProperty("c084")
+    private Boolean c084;
+
+    @Column("c085")
+    @ExcelCellName("c085")
+    @ExcelProperty("c085")
+    private java.time.LocalDate c085;
+
+    @Column("c086")
+    @ExcelCellName("c086")
+    @ExcelProperty("c086")
+    private java.math.BigDecimal c086;
+
+    @Column("c087")
+    @ExcelCellName("c087")
+    @ExcelProperty(value = "c087", converter = WideStatusConverter.class)
+    private WideStatus c087;
+
+    @Column("c088")
+    @ExcelCellName("c088")
+    @ExcelProperty("c088")
+    private java.time.LocalDateTime c088;
+
+    @Column("c089")
+    @ExcelCellName("c089")
+    @ExcelProperty("c089")
+    private String c089;
+
+    @Column("c090")
+    @ExcelCellName("c090")
+    @ExcelProperty("c090")
+    private Double c090;
+
+    @Column("c091")
+    @ExcelCellName("c091")
+    @ExcelProperty("c091")
+    private String c091;
+
+    @Column("c092")
+    @ExcelCellName("c092")
+    @ExcelProperty("c092")
+    private Integer c092;
+
+    @Column("c093")
+    @ExcelCellName("c093")
+    @ExcelProperty("c093")
+    private Double c093;
+
+    @Column("c094")
+    @ExcelCellName("c094")
+    @ExcelProperty("c094")
+    private Boolean c094;
+
+    @Column("c095")
+    @ExcelCellName("c095")
+    @ExcelProperty("c095")
+    private java.time.LocalDate c095;
+
+    @Column("c096")
+    @ExcelCellName("c096")
+    @ExcelProperty("c096")
+    private java.math.BigDecimal c096;
+
+    @Column("c097")
+    @ExcelCellName("c097")
+    @ExcelProperty(value = "c097", converter = WideStatusConverter.class)
+    private WideStatus c097;
+
+    @Column("c098")
+    @ExcelCellName("c098")
+    @ExcelProperty("c098")
+    private java.time.LocalDateTime c098;
+
+    @Column("c099")
+    @ExcelCellName("c099")
+    @ExcelProperty("c099")
+    private String c099;
+
+    @Column("c100")
+    @ExcelCellName("c100")
+    @ExcelProperty("c100")
+    private Double c100;
+
+    @Column("c101")
+    @ExcelCellName("c101")
+    @ExcelProperty("c101")
+    private String c101;
+
+    @Column("c102")
+    @ExcelCellName("c102")
+    @ExcelProperty("c102")
+    private Integer c102;
+
+    @Column("c103")
+    @ExcelCellName("c103")
+    @ExcelProperty("c103")
+    private Double c103;
+
+    @Column("c104")
+    @ExcelCellName("c104")
+    @ExcelProperty("c104")
+    private Boolean c104;
+
+    @Column("c105")
+    @ExcelCellName("c105")
+    @ExcelProperty("c105")
+    private java.time.LocalDate c105;
+
+    @Column("c106")
+    @ExcelCellName("c106")
+    @ExcelProperty("c106")
+    private java.math.BigDecimal c106;
+
+    @Column("c107")
+    @ExcelCellName("c107")
+    @ExcelProperty(value = "c107", converter = WideStatusConverter.class)
+    private WideStatus c107;
+
+    @Column("c108")
+    @ExcelCellName("c108")
+    @ExcelProperty("c108")
+    private java.time.LocalDateTime c108;
+
+    @Column("c109")
+    @ExcelCellName("c109")
+    @ExcelProperty("c109")
+    private String c109;
+
+    @Column("c110")
+    @ExcelCellName("c110")
+    @ExcelProperty("c110")
+    private Double c110;
+
+    @Column("c111")
+    @ExcelCellName("c111")
+    @ExcelProperty("c111")
+    private String c111;
+
+    @Column("c112")
+    @ExcelCellName("c112")
+    @ExcelProperty("c112")
+    private Integer c112;
+
+    @Column("c113")
+    @ExcelCellName("c113")
+    @ExcelProperty("c113")
+    private Double c113;
+
+    @Column("c114")
+    @ExcelCellName("c114")
+    @ExcelProperty("c114")
+    private Boolean c114;
+
+    @Column("c115")
+    @ExcelCellName("c115")
+    @ExcelProperty("c115")
+    private java.time.LocalDate c115;
+
+    @Column("c116")
+    @ExcelCellName("c116")
+    @ExcelProperty("c116")
+    private java.math.BigDecimal c116;
+
+    @Column("c117")
+    @ExcelCellName("c117")
+    @ExcelProperty(value = "c117", converter = WideStatusConverter.class)
+    private WideStatus c117;
+
+    @Column("c118")
+    @ExcelCellName("c118")
+    @ExcelProperty("c118")
+    private java.time.LocalDateTime c118;
+
+    @Column("c119")
+    @ExcelCellName("c119")
+    @ExcelProperty("c119")
+    private String c119;
+
+    @Column("c120")
+    @ExcelCellName("c120")
+    @ExcelProperty("c120")
+    private Double c120;
+
+    @Column("c121")
+    @ExcelCellName("c121")
+    @ExcelProperty("c121")
+    private String c121;
+
+    @Column("c122")
+    @ExcelCellName("c122")
+    @ExcelProperty("c122")
+    private Integer c122;
+
+    @Column("c123")
+    @ExcelCellName("c123")
+    @ExcelProperty("c123")
+    private Double c123;
+
+    @Column("c124")
+    @ExcelCellName("c124")
+    @ExcelProperty("c124")
+    private Boolean c124;
+
+    @Column("c125")
+    @ExcelCellName("c125")
+    @ExcelProperty("c125")
+    private java.time.LocalDate c125;
+
+    @Column("c126")
+    @ExcelCellName("c126")
+    @ExcelProperty("c126")
+    private java.math.BigDecimal c126;
+
+    @Column("c127")
+    @ExcelCellName("c127")
+    @ExcelProperty(value = "c127", converter = WideStatusConverter.class)
+    private WideStatus c127;
+
+    @Column("c128")
+    @ExcelCellName("c128")
+    @ExcelProperty("c128")
+    private java.time.LocalDateTime c128;
+
+    @Column("c129")
+    @ExcelCellName("c129")
+    @ExcelProperty("c129")
+    private String c129;
+
+    @Column("c130")
+    @ExcelCellName("c130")
+    @ExcelProperty("c130")
+    private Double c130;
+
+    @Column("c131")
+    @ExcelCellName("c131")
+    @ExcelProperty("c131")
+    private String c131;
+
+    @Column("c132")
+    @ExcelCellName("c132")
+    @ExcelProperty("c132")
+    private Integer c132;
+
+    @Column("c133")
+    @ExcelCellName("c133")
+    @ExcelProperty("c133")
+    private Double c133;
+
+    @Column("c134")
+    @ExcelCellName("c134")
+    @ExcelProperty("c134")
+    private Boolean c134;
+
+    @Column("c135")
+    @ExcelCellName("c135")
+    @ExcelProperty("c135")
+    private java.time.LocalDate c135;
+
+    @Column("c136")
+    @ExcelCellName("c136")
+    @ExcelProperty("c136")
+    private java.math.BigDecimal c136;
+
+    @Column("c137")
+    @ExcelCellName("c137")
+    @ExcelProperty(value = "c137", converter = WideStatusConverter.class)
+    private WideStatus c137;
+
+    @Column("c138")
+    @ExcelCellName("c138")
+    @ExcelProperty("c138")
+    private java.time.LocalDateTime c138;
+
+    @Column("c139")
+    @ExcelCellName("c139")
+    @ExcelProperty("c139")
+    private String c139;
+
+    @Column("c140")
+    @ExcelCellName("c140")
+    @ExcelProperty("c140")
+    private Double c140;
+
+    @Column("c141")
+    @ExcelCellName("c141")
+    @ExcelProperty("c141")
+    private String c141;
+
+    @Column("c142")
+    @ExcelCellName("c142")
+    @ExcelProperty("c142")
+    private Integer c142;
+
+    @Column("c143")
+    @ExcelCellName("c143")
+    @ExcelProperty("c143")
+    private Double c143;
+
+    @Column("c144")
+    @ExcelCellName("c144")
+    @ExcelProperty("c144")
+    private Boolean c144;
+
+    @Column("c145")
+    @ExcelCellName("c145")
+    @ExcelProperty("c145")
+    private java.time.LocalDate c145;
+
+    @Column("c146")
+    @ExcelCellName("c146")
+    @ExcelProperty("c146")
+    private java.math.BigDecimal c146;
+
+    @Column("c147")
+    @ExcelCellName("c147")
+    @ExcelProperty(value = "c147", converter = WideStatusConverter.class)
+    private WideStatus c147;
+
+    @Column("c148")
+    @ExcelCellName("c148")
+    @ExcelProperty("c148")
+    private java.time.LocalDateTime c148;
+
+    @Column("c149")
+    @ExcelCellName("c149")
+    @ExcelProperty("c149")
+    private String c149;
+
+    @Column("c150")
+    @ExcelCellName("c150")
+    @ExcelProperty("c150")
+    private Double c150;
+
+    public Wide150Mixed() {}
+
+    public String getC001() { return c001; }
+    public void setC001(String c001) { this.c001 = c001; }
+
+    public Integer getC002() { return c002; }
+    public void setC002(Integer c002) { this.c002 = c002; }
+
+    public Double getC003() { return c003; }
+    public void setC003(Double c003) { this.c003 = c003; }
+
+    public Boolean getC004() { return c004; }
+    public void setC004(Boolean c004) { this.c004 = c004; }
+
+    public java.time.LocalDate getC005() { return c005; }
+    public void setC005(java.time.LocalDate c005) { this.c005 = c005; }
+
+    public java.math.BigDecimal getC006() { return c006; }
+    public void setC006(java.math.BigDecimal c006) { this.c006 = c006; }
+
+    public WideStatus getC007() { return c007; }
+    public void setC007(WideStatus c007) { this.c007 = c007; }
+
+    public java.time.LocalDateTime getC008() { return c008; }
+    public void setC008(java.time.LocalDateTime c008) { this.c008 = c008; }
+
+    public String getC009() { return c009; }
+    public void setC009(String c009) { this.c009 = c009; }
+
+    public Double getC010() { return c010; }
+    public void setC010(Double c010) { this.c010 = c010; }
+
+    public String getC011() { return c011; }
+    public void setC011(String c011) { this.c011 = c011; }
+
+    public Integer getC012() { return c012; }
+    public void setC012(Integer c012) { this.c012 = c012; }
+
+    public Double getC013() { return c013; }
+    public void setC013(Double c013) { this.c013 = c013; }
+
+    public Boolean getC014() { return c014; }
+    public void setC014(Boolean c014) { this.c014 = c014; }
+
+    public java.time.LocalDate getC015() { return c015; }
+    public void setC015(java.time.LocalDate c015) { this.c015 = c015; }
+
+    public java.math.BigDecimal getC016() { return c016; }
+    public void setC016(java.math.BigDecimal c016) { this.c016 = c016; }
+
+    public WideStatus getC017() { return c017; }
+    public void setC017(WideStatus c017) { this.c017 = c017; }
+
+    public java.time.LocalDateTime getC018() { return c018; }
+    public void setC018(java.time.LocalDateTime c018) { this.c018 = c018; }
+
+    public String getC019() { return c019; }
+    public void setC019(String c019) { this.c019 = c019; }
+
+    public Double getC020() { return c020; }
+    public void setC020(Double c020) { this.c020 = c020; }
+
+    public String getC021() { return c021; }
+    public void setC021(String c021) { this.c021 = c021; }
+
+    public Integer getC022() { return c022; }
+    public void setC022(Integer c022) { this.c022 = c022; }
+
+    public Double getC023() { return c023; }
+    public void setC023(Double c023) { this.c023 = c023; }
+
+    public Boolean getC024() { return c024; }
+    public void setC024(Boolean c024) { this.c024 = c024; }
+
+    public java.time.LocalDate getC025() { return c025; }
+    public void setC025(java.time.LocalDate c025) { this.c025 = c025; }
+
+    public java.math.BigDecimal getC026() { return c026; }
+    public void setC026(java.math.BigDecimal c026) { this.c026 = c026; }
+
+    public WideStatus getC027() { return c027; }
+    public void setC027(WideStatus c027) { this.c027 = c027; }
+
+    public java.time.LocalDateTime getC028() { return c028; }
+    public void setC028(java.time.LocalDateTime c028) { this.c028 = c028; }
+
+    public String getC029() { return c029; }
+    public void setC029(String c029) { this.c029 = c029; }
+
+    public Double getC030() { return c030; }
+    public void setC030(Double c030) { this.c030 = c030; }
+
+    public String getC031() { return c031; }
+    public void setC031(String c031) { this.c031 = c031; }
+
+    public Integer getC032() { return c032; }
+    public void setC032(Integer c032) { this.c032 = c032; }
+
+    public Double getC033() { return c033; }
+    public void setC033(Double c033) { this.c033 = c033; }
+
+    public Boolean getC034() { return c034; }
+    public void setC034(Boolean c034) { this.c034 = c034; }
+
+    public java.time.LocalDate getC035() { return c035; }
+    public void setC035(java.time.LocalDate c035) { this.c035 = c035; }
+
+    public java.math.BigDecimal getC036() { return c036; }
+    public void setC036(java.math.BigDecimal c036) { this.c036 = c036; }
+
+    public WideStatus getC037() { return c037; }
+    public void setC037(WideStatus c037) { this.c037 = c037; }
+
+    public java.time.LocalDateTime getC038() { return c038; }
+    public void setC038(java.time.LocalDateTime c038) { this.c038 = c038; }
+
+    public String getC039() { return c039; }
+    public void setC039(String c039) { this.c039 = c039; }
+
+    public Double getC040() { return c040; }
+    public void setC040(Double c040) { this.c040 = c040; }
+
+    public String getC041() { return c041; }
+    public void setC041(String c041) { this.c041 = c041; }
+
+    public Integer getC042() { return c042; }
+    public void setC042(Integer c042) { this.c042 = c042; }
+
+    public Double getC043() { return c043; }
+    public void setC043(Double c043) { this.c043 = c043; }
+
+    public Boolean getC044() { return c044; }
+    public void setC044(Boolean c044) { this.c044 = c044; }
+
+    public java.time.LocalDate getC045() { return c045; }
+    public void setC045(java.time.LocalDate c045) { this.c045 = c045; }
+
+    public java.math.BigDecimal getC046() { return c046; }
+    public void setC046(java.math.BigDecimal c046) { this.c046 = c046; }
+
+    public WideStatus getC047() { return c047; }
+    public void setC047(WideStatus c047) { this.c047 = c047; }
+
+    public java.time.LocalDateTime getC048() { return c048; }
+    public void setC048(java.time.LocalDateTime c048) { this.c048 = c048; }
+
+    public String getC049() { return c049; }
+    public void setC049(String c049) { this.c049 = c049; }
+
+    public Double getC050() { return c050; }
+    public void setC050(Double c050) { this.c050 = c050; }
+
+    public String getC051() { return c051; }
+    public void setC051(String c051) { this.c051 = c051; }
+
+    public Integer getC052() { return c052; }
+    public void setC052(Integer c052) { this.c052 = c052; }
+
+    public Double getC053() { return c053; }
+    public void setC053(Double c053) { this.c053 = c053; }
+
+    public Boolean getC054() { return c054; }
+    public void setC054(Boolean c054) { this.c054 = c054; }
+
+    public java.time.LocalDate getC055() { return c055; }
+    public void setC055(java.time.LocalDate c055) { this.c055 = c055; }
+
+    public java.math.BigDecimal getC056() { return c056; }
+    public void setC056(java.math.BigDecimal c056) { this.c056 = c056; }
+
+    public WideStatus getC057() { return c057; }
+    public void setC057(WideStatus c057) { this.c057 = c057; }
+
+    public java.time.LocalDateTime getC058() { return c058; }
+    public void setC058(java.time.LocalDateTime c058) { this.c058 = c058; }
+
+    public String getC059() { return c059; }
+    public void setC059(String c059) { this.c059 = c059; }
+
+    public Double getC060() { return c060; }
+    public void setC060(Double c060) { this.c060 = c060; }
+
+    public String getC061() { return c061; }
+    public void setC061(String c061) { this.c061 = c061; }
+
+    public Integer getC062() { return c062; }
+    public void setC062(Integer c062) { this.c062 = c062; }
+
+    public Double getC063() { return c063; }
+    public void setC063(Double c063) { this.c063 = c063; }
+
+    public Boolean getC064() { return c064; }
+    public void setC064(Boolean c064) { this.c064 = c064; }
+
+    public java.time.LocalDate getC065() { return c065; }
+    public void setC065(java.time.LocalDate c065) { this.c065 = c065; }
+
+    public java.math.BigDecimal getC066() { return c066; }
+    public void setC066(java.math.BigDecimal c066) { this.c066 = c066; }
+
+    public WideStatus getC067() { return c067; }
+    public void setC067(WideStatus c067) { this.c067 = c067; }
+
+    public java.time.LocalDateTime getC068() { return c068; }
+    public void setC068(java.time.LocalDateTime c068) { this.c068 = c068; }
+
+    public String getC069() { return c069; }
+    public void setC069(String c069) { this.c069 = c069; }
+
+    public Double getC070() { return c070; }
+    public void setC070(Double c070) { this.c070 = c070; }
+
+    public String getC071() { return c071; }
+    public void setC071(String c071) { this.c071 = c071; }
+
+    public Integer getC072() { return c072; }
+    public void setC072(Integer c072) { this.c072 = c072; }
+
+    public Double getC073() { return c073; }
+    public void setC073(Double c073) { this.c073 = c073; }
+
+    public Boolean getC074() { return c074; }
+    public void setC074(Boolean c074) { this.c074 = c074; }
+
+    public java.time.LocalDate getC075() { return c075; }
+    public void setC075(java.time.LocalDate c075) { this.c075 = c075; }
+
+    public java.math.BigDecimal getC076() { return c076; }
+    public void setC076(java.math.BigDecimal c076) { this.c076 = c076; }
+
+    public WideStatus getC077() { return c077; }
+    public void setC077(WideStatus c077) { this.c077 = c077; }
+
+    public java.time.LocalDateTime getC078() { return c078; }
+    public void setC078(java.time.LocalDateTime c078) { this.c078 = c078; }
+
+    public String getC079() { return c079; }
+    public void setC079(String c079) { this.c079 = c079; }
+
+    public Double getC080() { return c080; }
+    public void setC080(Double c080) { this.c080 = c080; }
+
+    public String getC081() { return c081; }
+    public void setC081(String c081) { this.c081 = c081; }
+
+    public Integer getC082() { return c082; }
+    public void setC082(Integer c082) { this.c082 = c082; }
+
+    public Double getC083() { return c083; }
+    public void setC083(Double c083) { this.c083 = c083; }
+
+    public Boolean getC084() { return c084; }
+    public void setC084(Boolean c084) { this.c084 = c084; }
+
+    public java.time.LocalDate getC085() { return c085; }
+    public void setC085(java.time.LocalDate c085) { this.c085 = c085; }
+
+    public java.math.BigDecimal getC086() { return c086; }
+    public void setC086(java.math.BigDecimal c086) { this.c086 = c086; }
+
+    public WideStatus getC087() { return c087; }
+    public void setC087(WideStatus c087) { this.c087 = c087; }
+
+    public java.time.LocalDateTime getC088() { return c088; }
+    public void setC088(java.time.LocalDateTime c088) { this.c088 = c088; }
+
+    public String getC089() { return c089; }
+    public void setC089(String c089) { this.c089 = c089; }
+
+    public Double getC090() { return c090; }
+    public void setC090(Double c090) { this.c090 = c090; }
+
+    public String getC091() { return c091; }
+    public void setC091(String c091) { this.c091 = c091; }
+
+    public Integer getC092() { return c092; }
+    public void setC092(Integer c092) { this.c092 = c092; }
+
+    public Double getC093() { return c093; }
+    public void setC093(Double c093) { this.c093 = c093; }
+
+    public Boolean getC094() { return c094; }
+    public void setC094(Boolean c094) { this.c094 = c094; }
+
+    public java.time.LocalDate getC095() { return c095; }
+    public void setC095(java.time.LocalDate c095) { this.c095 = c095; }
+
+    public java.math.BigDecimal getC096() { return c096; }
+    public void setC096(java.math.BigDecimal c096) { this.c096 = c096; }
+
+    public WideStatus getC097() { return c097; }
+    public void setC097(WideStatus c097) { this.c097 = c097; }
+
+    public java.time.LocalDateTime getC098() { return c098; }
+    public void setC098(java.time.LocalDateTime c098) { this.c098 = c098; }
+
+    public String getC099() { return c099; }
+    public void setC099(String c099) { this.c099 = c099; }
+
+    public Double getC100() { return c100; }
+    public void setC100(Double c100) { this.c100 = c100; }
+
+    public String getC101() { return c101; }
+    public void setC101(String c101) { this.c101 = c101; }
+
+    public Integer getC102() { return c102; }
+    public void setC102(Integer c102) { this.c102 = c102; }
+
+    public Double getC103() { return c103; }
+    public void setC103(Double c103) { this.c103 = c103; }
+
+    public Boolean getC104() { return c104; }
+    public void setC104(Boolean c104) { this.c104 = c104; }
+
+    public java.time.LocalDate getC105() { return c105; }
+    public void setC105(java.time.LocalDate c105) { this.c105 = c105; }
+
+    public java.math.BigDecimal getC106() { return c106; }
+    public void setC106(java.math.BigDecimal c106) { this.c106 = c106; }
+
+    public WideStatus getC107() { return c107; }
+    public void setC107(WideStatus c107) { this.c107 = c107; }
+
+    public java.time.LocalDateTime getC108() { return c108; }
+    public void setC108(java.time.LocalDateTime c108) { this.c108 = c108; }
+
+    public String getC109() { return c109; }
+    public void setC109(String c109) { this.c109 = c109; }
+
+    public Double getC110() { return c110; }
+    public void setC110(Double c110) { this.c110 = c110; }
+
+    public String getC111() { return c111; }
+    public void setC111(String c111) { this.c111 = c111; }
+
+    public Integer getC112() { return c112; }
+    public void setC112(Integer c112) { this.c112 = c112; }
+
+    public Double getC113() { return c113; }
+    public void setC113(Double c113) { this.c113 = c113; }
+
+    public Boolean getC114() { return c114; }
+    public void setC114(Boolean c114) { this.c114 = c114; }
+
+    public java.time.LocalDate getC115() { return c115; }
+    public void setC115(java.time.LocalDate c115) { this.c115 = c115; }
+
+    public java.math.BigDecimal getC116() { return c116; }
+    public void setC116(java.math.BigDecimal c116) { this.c116 = c116; }
+
+    public WideStatus getC117() { return c117; }
+    public void setC117(WideStatus c117) { this.c117 = c117; }
+
+    public java.time.LocalDateTime getC118() { return c118; }
+    public void setC118(java.time.LocalDateTime c118) { this.c118 = c118; }
+
+    public String getC119() { return c119; }
+    public void setC119(String c119) { this.c119 = c119; }
+
+    public Double getC120() { return c120; }
+    public void setC120(Double c120) { this.c120 = c120; }
+
+    public String getC121() { return c121; }
+    public void setC121(String c121) { this.c121 = c121; }
+
+    public Integer getC122() { return c122; }
+    public void setC122(Integer c122) { this.c122 = c122; }
+
+    public Double getC123() { return c123; }
+    public void setC123(Double c123) { this.c123 = c123; }
+
+    public Boolean getC124() { return c124; }
+    public void setC124(Boolean c124) { this.c124 = c124; }
+
+    public java.time.LocalDate getC125() { return c125; }
+    public void setC125(java.time.LocalDate c125) { this.c125 = c125; }
+
+    public java.math.BigDecimal getC126() { return c126; }
+    public void setC126(java.math.BigDecimal c126) { this.c126 = c126; }
+
+    public WideStatus getC127() { return c127; }
+    public void setC127(WideStatus c127) { this.c127 = c127; }
+
+    public java.time.LocalDateTime getC128() { return c128; }
+    public void setC128(java.time.LocalDateTime c128) { this.c128 = c128; }
+
+    public String getC129() { return c129; }
+    public void setC129(String c129) { this.c129 = c129; }
+
+    public Double getC130() { return c130; }
+    public void setC130(Double c130) { this.c130 = c130; }
+
+    public String getC131() { return c131; }
+    public void setC131(String c131) { this.c131 = c131; }
+
+    public Integer getC132() { return c132; }
+    public void setC132(Integer c132) { this.c132 = c132; }
+
+    public Double getC133() { return c133; }
+    public void setC133(Double c133) { this.c133 = c133; }
+
+    public Boolean getC134() { return c134; }
+    public void setC134(Boolean c134) { this.c134 = c134; }
+
+    public java.time.LocalDate getC135() { return c135; }
+    public void setC135(java.time.LocalDate c135) { this.c135 = c135; }
+
+    public java.math.BigDecimal getC136() { return c136; }
+    public void setC136(java.math.BigDecimal c136) { this.c136 = c136; }
+
+    public WideStatus getC137() { return c137; }
+    public void setC137(WideStatus c137) { this.c137 = c137; }
+
+    public java.time.LocalDateTime getC138() { return c138; }
+    public void setC138(java.time.LocalDateTime c138) { this.c138 = c138; }
+
+    public String getC139() { return c139; }
+    public void setC139(String c139) { this.c139 = c139; }
+
+    public Double getC140() { return c140; }
+    public void setC140(Double c140) { this.c140 = c140; }
+
+    public String getC141() { return c141; }
+    public void setC141(String c141) { this.c141 = c141; }
+
+    public Integer getC142() { return c142; }
+    public void setC142(Integer c142) { this.c142 = c142; }
+
+    public Double getC143() { return c143; }
+    public void setC143(Double c143) { this.c143 = c143; }
+
+    public Boolean getC144() { return c144; }
+    public void setC144(Boolean c144) { this.c144 = c144; }
+
+    public java.time.LocalDate getC145() { return c145; }
+    public void setC145(java.time.LocalDate c145) { this.c145 = c145; }
+
+    public java.math.BigDecimal getC146() { return c146; }
+    public void setC146(java.math.BigDecimal c146) { this.c146 = c146; }
+
+    public WideStatus getC147() { return c147; }
+    public void setC147(WideStatus c147) { this.c147 = c147; }
+
+    public java.time.LocalDateTime getC148() { return c148; }
+    public void setC148(java.time.LocalDateTime c148) { this.c148 = c148; }
+
+    public String getC149() { return c149; }
+    public void setC149(String c149) { this.c149 = c149; }
+
+    public Double getC150() { return c150; }
+    public void setC150(Double c150) { this.c150 = c150; }
+}
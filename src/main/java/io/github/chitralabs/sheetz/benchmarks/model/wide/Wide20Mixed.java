@@ -0,0 +1,173 @@
+package io.github.chitralabs.sheetz.benchmarks.model.wide;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+import com.poiji.annotation.ExcelCellName;
+import io.github.chitralabs.sheetz.annotation.Column;
+
+/**
+ * Generated by {@link WideModelGenerator}: 20 columns, MIXED type mix. Do not edit.
+ */
+public class Wide20Mixed {
+
+    @Column("c001")
+    @ExcelCellName("c001")
+    @ExcelProperty("c001")
+    private String c001;
+
+    @Column("c002")
+    @ExcelCellName("c002")
+    @ExcelProperty("c002")
+    private Integer c002;
+
+    @Column("c003")
+    @ExcelCellName("c003")
+    @ExcelProperty("c003")
+    private Double c003;
+
+    @Column("c004")
+    @ExcelCellName("c004")
+    @ExcelProperty("c004")
+    private Boolean c004;
+
+    @Column("c005")
+    @ExcelCellName("c005")
+    @ExcelProperty("c005")
+    private java.time.LocalDate c005;
+
+    @Column("c006")
+    @ExcelCellName("c006")
+    @ExcelProperty("c006")
+    private java.math.BigDecimal c006;
+
+    @Column("c007")
+    @ExcelCellName("c007")
+    @ExcelProperty(value = "c007", converter = WideStatusConverter.class)
+    private WideStatus c007;
+
+    @Column("c008")
+    @ExcelCellName("c008")
+    @ExcelProperty("c008")
+    private java.time.LocalDateTime c008;
+
+    @Column("c009")
+    @ExcelCellName("c009")
+    @ExcelProperty("c009")
+    private String c009;
+
+    @Column("c010")
+    @ExcelCellName("c010")
+    @ExcelProperty("c010")
+    private Double c010;
+
+    @Column("c011")
+    @ExcelCellName("c011")
+    @ExcelProperty("c011")
+    private String c011;
+
+    @Column("c012")
+    @ExcelCellName("c012")
+    @ExcelProperty("c012")
+    private Integer c012;
+
+    @Column("c013")
+    @ExcelCellName("c013")
+    @ExcelProperty("c013")
+    private Double c013;
+
+    @Column("c014")
+    @ExcelCellName("c014")
+    @ExcelProperty("c014")
+    private Boolean c014;
+
+    @Column("c015")
+    @ExcelCellName("c015")
+    @ExcelProperty("c015")
+    private java.time.LocalDate c015;
+
+    @Column("c016")
+    @ExcelCellName("c016")
+    @ExcelProperty("c016")
+    private java.math.BigDecimal c016;
+
+    @Column("c017")
+    @ExcelCellName("c017")
+    @ExcelProperty(value = "c017", converter = WideStatusConverter.class)
+    private WideStatus c017;
+
+    @Column("c018")
+    @ExcelCellName("c018")
+    @ExcelProperty("c018")
+    private java.time.LocalDateTime c018;
+
+    @Column("c019")
+    @ExcelCellName("c019")
+    @ExcelProperty("c019")
+    private String c019;
+
+    @Column("c020")
+    @ExcelCellName("c020")
+    @ExcelProperty("c020")
+    private Double c020;
+
+    public Wide20Mixed() {}
+
+    public String getC001() { return c001; }
+    public void setC001(String c001) { this.c001 = c001; }
+
+    public Integer getC002() { return c002; }
+    public void setC002(Integer c002) { this.c002 = c002; }
+
+    public Double getC003() { return c003; }
+    public void setC003(Double c003) { this.c003 = c003; }
+
+    public Boolean getC004() { return c004; }
+    public void setC004(Boolean c004) { this.c004 = c004; }
+
+    public java.time.LocalDate getC005() { return c005; }
+    public void setC005(java.time.LocalDate c005) { this.c005 = c005; }
+
+    public java.math.BigDecimal getC006() { return c006; }
+    public void setC006(java.math.BigDecimal c006) { this.c006 = c006; }
+
+    public WideStatus getC007() { return c007; }
+    public void setC007(WideStatus c007) { this.c007 = c007; }
+
+    public java.time.LocalDateTime getC008() { return c008; }
+    public void setC008(java.time.LocalDateTime c008) { this.c008 = c008; }
+
+    public String getC009() { return c009; }
+    public void setC009(String c009) { this.c009 = c009; }
+
+    public Double getC010() { return c010; }
+    public void setC010(Double c010) { this.c010 = c010; }
+
+    public String getC011() { return c011; }
+    public void setC011(String c011) { this.c011 = c011; }
+
+    public Integer getC012() { return c012; }
+    public void setC012(Integer c012) { this.c012 = c012; }
+
+    public Double getC013() { return c013; }
+    public void setC013(Double c013) { this.c013 = c013; }
+
+    public Boolean getC014() { return c014; }
+    public void setC014(Boolean c014) { this.c014 = c014; }
+
+    public java.time.LocalDate getC015() { return c015; }
+    public void setC015(java.time.LocalDate c015) { this.c015 = c015; }
+
+    public java.math.BigDecimal getC016() { return c016; }
+    public void setC016(java.math.BigDecimal c016) { this.c016 = c016; }
+
+    public WideStatus getC017() { return c017; }
+    public void setC017(WideStatus c017) { this.c017 = c017; }
+
+    public java.time.LocalDateTime getC018() { return c018; }
+    public void setC018(java.time.LocalDateTime c018) { this.c018 = c018; }
+
+    public String getC019() { return c019; }
+    public void setC019(String c019) { this.c019 = c019; }
+
+    public Double getC020() { return c020; }
+    public void setC020(Double c020) { this.c020 = c020; }
+}
@@ -0,0 +1,173 @@
+package io.github.chitralabs.sheetz.benchmarks.model.wide;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+import com.poiji.annotation.ExcelCellName;
+import io.github.chitralabs.sheetz.annotation.Column;
+
+/**
+ * Generated by {@link WideModelGenerator}: 20 columns, NUMERIC type mix. Do not edit.
+ */
+public class Wide20Numeric {
+
+    @Column("c001")
+    @ExcelCellName("c001")
+    @ExcelProperty("c001")
+    private Double c001;
+
+    @Column("c002")
+    @ExcelCellName("c002")
+    @ExcelProperty("c002")
+    private Integer c002;
+
+    @Column("c003")
+    @ExcelCellName("c003")
+    @ExcelProperty("c003")
+    private java.math.BigDecimal c003;
+
+    @Column("c004")
+    @ExcelCellName("c004")
+    @ExcelProperty("c004")
+    private Double c004;
+
+    @Column("c005")
+    @ExcelCellName("c005")
+    @ExcelProperty("c005")
+    private Integer c005;
+
+    @Column("c006")
+    @ExcelCellName("c006")
+    @ExcelProperty("c006")
+    private Double c006;
+
+    @Column("c007")
+    @ExcelCellName("c007")
+    @ExcelProperty("c007")
+    private Integer c007;
+
+    @Column("c008")
+    @ExcelCellName("c008")
+    @ExcelProperty("c008")
+    private java.math.BigDecimal c008;
+
+    @Column("c009")
+    @ExcelCellName("c009")
+    @ExcelProperty("c009")
+    private Double c009;
+
+    @Column("c010")
+    @ExcelCellName("c010")
+    @ExcelProperty("c010")
+    private Integer c010;
+
+    @Column("c011")
+    @ExcelCellName("c011")
+    @ExcelProperty("c011")
+    private Double c011;
+
+    @Column("c012")
+    @ExcelCellName("c012")
+    @ExcelProperty("c012")
+    private Integer c012;
+
+    @Column("c013")
+    @ExcelCellName("c013")
+    @ExcelProperty("c013")
+    private java.math.BigDecimal c013;
+
+    @Column("c014")
+    @ExcelCellName("c014")
+    @ExcelProperty("c014")
+    private Double c014;
+
+    @Column("c015")
+    @ExcelCellName("c015")
+    @ExcelProperty("c015")
+    private Integer c015;
+
+    @Column("c016")
+    @ExcelCellName("c016")
+    @ExcelProperty("c016")
+    private Double c016;
+
+    @Column("c017")
+    @ExcelCellName("c017")
+    @ExcelProperty("c017")
+    private Integer c017;
+
+    @Column("c018")
+    @ExcelCellName("c018")
+    @ExcelProperty("c018")
+    private java.math.BigDecimal c018;
+
+    @Column("c019")
+    @ExcelCellName("c019")
+    @ExcelProperty("c019")
+    private Double c019;
+
+    @Column("c020")
+    @ExcelCellName("c020")
+    @ExcelProperty("c020")
+    private Integer c020;
+
+    public Wide20Numeric() {}
+
+    public Double getC001() { return c001; }
+    public void setC001(Double c001) { this.c001 = c001; }
+
+    public Integer getC002() { return c002; }
+    public void setC002(Integer c002) { this.c002 = c002; }
+
+    public java.math.BigDecimal getC003() { return c003; }
+    public void setC003(java.math.BigDecimal c003) { this.c003 = c003; }
+
+    public Double getC004() { return c004; }
+    public void setC004(Double c004) { this.c004 = c004; }
+
+    public Integer getC005() { return c005; }
+    public void setC005(Integer c005) { this.c005 = c005; }
+
+    public Double getC006() { return c006; }
+    public void setC006(Double c006) { this.c006 = c006; }
+
+    public Integer getC007() { return c007; }
+    public void setC007(Integer c007) { this.c007 = c007; }
+
+    public java.math.BigDecimal getC008() { return c008; }
+    public void setC008(java.math.BigDecimal c008) { this.c008 = c008; }
+
+    public Double getC009() { return c009; }
+    public void setC009(Double c009) { this.c009 = c009; }
+
+    public Integer getC010() { return c010; }
+    public void setC010(Integer c010) { this.c010 = c010; }
+
+    public Double getC011() { return c011; }
+    public void setC011(Double c011) { this.c011 = c011; }
+
+    public Integer getC012() { return c012; }
+    public void setC012(Integer c012) { this.c012 = c012; }
+
+    public java.math.BigDecimal getC013() { return c013; }
+    public void setC013(java.math.BigDecimal c013) { this.c013 = c013; }
+
+    public Double getC014() { return c014; }
+    public void setC014(Double c014) { this.c014 = c014; }
+
+    public Integer getC015() { return c015; }
+    public void setC015(Integer c015) { this.c015 = c015; }
+
+    public Double getC016() { return c016; }
+    public void setC016(Double c016) { this.c016 = c016; }
+
+    public Integer getC017() { return c017; }
+    public void setC017(Integer c017) { this.c017 = c017; }
+
+    public java.math.BigDecimal getC018() { return c018; }
+    public void setC018(java.math.BigDecimal c018) { this.c018 = c018; }
+
+    public Double getC019() { return c019; }
+    public void setC019(Double c019) { this.c019 = c019; }
+
+    public Integer getC020() { return c020; }
+    public void setC020(Integer c020) { this.c020 = c020; }
+}
@@ -0,0 +1,173 @@
+package io.github.chitralabs.sheetz.benchmarks.model.wide;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+import com.poiji.annotation.ExcelCellName;
+import io.github.chitralabs.sheetz.annotation.Column;
+
+/**
+ * Generated by {@link WideModelGenerator}: 20 columns, TEXT type mix. Do not edit.
+ */
+public class Wide20Text {
+
+    @Column("c001")
+    @ExcelCellName("c001")
+    @ExcelProperty("c001")
+    private String c001;
+
+    @Column("c002")
+    @ExcelCellName("c002")
+    @ExcelProperty("c002")
+    private String c002;
+
+    @Column("c003")
+    @ExcelCellName("c003")
+    @ExcelProperty("c003")
+    private String c003;
+
+    @Column("c004")
+    @ExcelCellName("c004")
+    @ExcelProperty(value = "c004", converter = WideStatusConverter.class)
+    private WideStatus c004;
+
+    @Column("c005")
+    @ExcelCellName("c005")
+    @ExcelProperty("c005")
+    private String c005;
+
+    @Column("c006")
+    @ExcelCellName("c006")
+    @ExcelProperty("c006")
+    private String c006;
+
+    @Column("c007")
+    @ExcelCellName("c007")
+    @ExcelProperty("c007")
+    private String c007;
+
+    @Column("c008")
+    @ExcelCellName("c008")
+    @ExcelProperty("c008")
+    private String c008;
+
+    @Column("c009")
+    @ExcelCellName("c009")
+    @ExcelProperty(value = "c009", converter = WideStatusConverter.class)
+    private WideStatus c009;
+
+    @Column("c010")
+    @ExcelCellName("c010")
+    @ExcelProperty("c010")
+    private String c010;
+
+    @Column("c011")
+    @ExcelCellName("c011")
+    @ExcelProperty("c011")
+    private String c011;
+
+    @Column("c012")
+    @ExcelCellName("c012")
+    @ExcelProperty("c012")
+    private String c012;
+
+    @Column("c013")
+    @ExcelCellName("c013")
+    @ExcelProperty("c013")
+    private String c013;
+
+    @Column("c014")
+    @ExcelCellName("c014")
+    @ExcelProperty(value = "c014", converter = WideStatusConverter.class)
+    private WideStatus c014;
+
+    @Column("c015")
+    @ExcelCellName("c015")
+    @ExcelProperty("c015")
+    private String c015;
+
+    @Column("c016")
+    @ExcelCellName("c016")
+    @ExcelProperty("c016")
+    private String c016;
+
+    @Column("c017")
+    @ExcelCellName("c017")
+    @ExcelProperty("c017")
+    private String c017;
+
+    @Column("c018")
+    @ExcelCellName("c018")
+    @ExcelProperty("c018")
+    private String c018;
+
+    @Column("c019")
+    @ExcelCellName("c019")
+    @ExcelProperty(value = "c019", converter = WideStatusConverter.class)
+    private WideStatus c019;
+
+    @Column("c020")
+    @ExcelCellName("c020")
+    @ExcelProperty("c020")
+    private String c020;
+
+    public Wide20Text() {}
+
+    public String getC001() { return c001; }
+    public void setC001(String c001) { this.c001 = c001; }
+
+    public String getC002() { return c002; }
+    public void setC002(String c002) { this.c002 = c002; }
+
+    public String getC003() { return c003; }
+    public void setC003(String c003) { this.c003 = c003; }
+
+    public WideStatus getC004() { return c004; }
+    public void setC004(WideStatus c004) { this.c004 = c004; }
+
+    public String getC005() { return c005; }
+    public void setC005(String c005) { this.c005 = c005; }
+
+    public String getC006() { return c006; }
+    public void setC006(String c006) { this.c006 = c006; }
+
+    public String getC007() { return c007; }
+    public void setC007(String c007) { this.c007 = c007; }
+
+    public String getC008() { return c008; }
+    public void setC008(String c008) { this.c008 = c008; }
+
+    public WideStatus getC009() { return c009; }
+    public void setC009(WideStatus c009) { this.c009 = c009; }
+
+    public String getC010() { return c010; }
+    public void setC010(String c010) { this.c010 = c010; }
+
+    public String getC011() { return c011; }
+    public void setC011(String c011) { this.c011 = c011; }
+
+    public String getC012() { return c012; }
+    public void setC012(String c012) { this.c012 = c012; }
+
+    public String getC013() { return c013; }
+    public void setC013(String c013) { this.c013 = c013; }
+
+    public WideStatus getC014() { return c014; }
+    public void setC014(WideStatus c014) { this.c014 = c014; }
+
+    public String getC015() { return c015; }
+    public void setC015(String c015) { this.c015 = c015; }
+
+    public String getC016() { return c016; }
+    public void setC016(String c016) { this.c016 = c016; }
+
+    public String getC017() { return c017; }
+    public void setC017(String c017) { this.c017 = c017; }
+
+    public String getC018() { return c018; }
+    public void setC018(String c018) { this.c018 = c018; }
+
+    public WideStatus getC019() { return c019; }
+    public void setC019(WideStatus c019) { this.c019 = c019; }
+
+    public String getC020() { return c020; }
+    public void setC020(String c020) { this.c020 = c020; }
+}
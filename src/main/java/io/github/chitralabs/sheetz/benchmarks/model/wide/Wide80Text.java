@@ -0,0 +1,653 @@
+package io.github.chitralabs.sheetz.benchmarks.model.wide;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+import com.poiji.annotation.ExcelCellName;
+import io.github.chitralabs.sheetz.annotation.Column;
+
+/**
+ * Generated by {@link WideModelGenerator}: 80 columns, TEXT type mix. Do not edit.
+ */
+public class Wide80Text {
+
+    @Column("c001")
+    @ExcelCellName("c001")
+    @ExcelProperty("c001")
+    private String c001;
+
+    @Column("c002")
+    @ExcelCellName("c002")
+    @ExcelProperty("c002")
+    private String c002;
+
+    @Column("c003")
+    @ExcelCellName("c003")
+    @ExcelProperty("c003")
+    private String c003;
+
+    @Column("c004")
+    @ExcelCellName("c004")
+    @ExcelProperty(value = "c004", converter = WideStatusConverter.class)
+    private WideStatus c004;
+
+    @Column("c005")
+    @ExcelCellName("c005")
+    @ExcelProperty("c005")
+    private String c005;
+
+    @Column("c006")
+    @ExcelCellName("c006")
+    @ExcelProperty("c006")
+    private String c006;
+
+    @Column("c007")
+    @ExcelCellName("c007")
+    @ExcelProperty("c007")
+    private String c007;
+
+    @Column("c008")
+    @ExcelCellName("c008")
+    @ExcelProperty("c008")
+    private String c008;
+
+    @Column("c009")
+    @ExcelCellName("c009")
+    @ExcelProperty(value = "c009", converter = WideStatusConverter.class)
+    private WideStatus c009;
+
+    @Column("c010")
+    @ExcelCellName("c010")
+    @ExcelProperty("c010")
+    private String c010;
+
+    @Column("c011")
+    @ExcelCellName("c011")
+    @ExcelProperty("c011")
+    private String c011;
+
+    @Column("c012")
+    @ExcelCellName("c012")
+    @ExcelProperty("c012")
+    private String c012;
+
+    @Column("c013")
+    @ExcelCellName("c013")
+    @ExcelProperty("c013")
+    private String c013;
+
+    @Column("c014")
+    @ExcelCellName("c014")
+    @ExcelProperty(value = "c014", converter = WideStatusConverter.class)
+    private WideStatus c014;
+
+    @Column("c015")
+    @ExcelCellName("c015")
+    @ExcelProperty("c015")
+    private String c015;
+
+    @Column("c016")
+    @ExcelCellName("c016")
+    @ExcelProperty("c016")
+    private String c016;
+
+    @Column("c017")
+    @ExcelCellName("c017")
+    @ExcelProperty("c017")
+    private String c017;
+
+    @Column("c018")
+    @ExcelCellName("c018")
+    @ExcelProperty("c018")
+    private String c018;
+
+    @Column("c019")
+    @ExcelCellName("c019")
+    @ExcelProperty(value = "c019", converter = WideStatusConverter.class)
+    private WideStatus c019;
+
+    @Column("c020")
+    @ExcelCellName("c020")
+    @ExcelProperty("c020")
+    private String c020;
+
+    @Column("c021")
+    @ExcelCellName("c021")
+    @ExcelProperty("c021")
+    private String c021;
+
+    @Column("c022")
+    @ExcelCellName("c022")
+    @ExcelProperty("c022")
+    private String c022;
+
+    @Column("c023")
+    @ExcelCellName("c023")
+    @ExcelProperty("c023")
+    private String c023;
+
+    @Column("c024")
+    @ExcelCellName("c024")
+    @ExcelProperty(value = "c024", converter = WideStatusConverter.class)
+    private WideStatus c024;
+
+    @Column("c025")
+    @ExcelCellName("c025")
+    @ExcelProperty("c025")
+    private String c025;
+
+    @Column("c026")
+    @ExcelCellName("c026")
+    @ExcelProperty("c026")
+    private String c026;
+
+    @Column("c027")
+    @ExcelCellName("c027")
+    @ExcelProperty("c027")
+    private String c027;
+
+    @Column("c028")
+    @ExcelCellName("c028")
+    @ExcelProperty("c028")
+    private String c028;
+
+    @Column("c029")
+    @ExcelCellName("c029")
+    @ExcelProperty(value = "c029", converter = WideStatusConverter.class)
+    private WideStatus c029;
+
+    @Column("c030")
+    @ExcelCellName("c030")
+    @ExcelProperty("c030")
+    private String c030;
+
+    @Column("c031")
+    @ExcelCellName("c031")
+    @ExcelProperty("c031")
+    private String c031;
+
+    @Column("c032")
+    @ExcelCellName("c032")
+    @ExcelProperty("c032")
+    private String c032;
+
+    @Column("c033")
+    @ExcelCellName("c033")
+    @ExcelProperty("c033")
+    private String c033;
+
+    @Column("c034")
+    @ExcelCellName("c034")
+    @ExcelProperty(value = "c034", converter = WideStatusConverter.class)
+    private WideStatus c034;
+
+    @Column("c035")
+    @ExcelCellName("c035")
+    @ExcelProperty("c035")
+    private String c035;
+
+    @Column("c036")
+    @ExcelCellName("c036")
+    @ExcelProperty("c036")
+    private String c036;
+
+    @Column("c037")
+    @ExcelCellName("c037")
+    @ExcelProperty("c037")
+    private String c037;
+
+    @Column("c038")
+    @ExcelCellName("c038")
+    @ExcelProperty("c038")
+    private String c038;
+
+    @Column("c039")
+    @ExcelCellName("c039")
+    @ExcelProperty(value = "c039", converter = WideStatusConverter.class)
+    private WideStatus c039;
+
+    @Column("c040")
+    @ExcelCellName("c040")
+    @ExcelProperty("c040")
+    private String c040;
+
+    @Column("c041")
+    @ExcelCellName("c041")
+    @ExcelProperty("c041")
+    private String c041;
+
+    @Column("c042")
+    @ExcelCellName("c042")
+    @ExcelProperty("c042")
+    private String c042;
+
+    @Column("c043")
+    @ExcelCellName("c043")
+    @ExcelProperty("c043")
+    private String c043;
+
+    @Column("c044")
+    @ExcelCellName("c044")
+    @ExcelProperty(value = "c044", converter = WideStatusConverter.class)
+    private WideStatus c044;
+
+    @Column("c045")
+    @ExcelCellName("c045")
+    @ExcelProperty("c045")
+    private String c045;
+
+    @Column("c046")
+    @ExcelCellName("c046")
+    @ExcelProperty("c046")
+    private String c046;
+
+    @Column("c047")
+    @ExcelCellName("c047")
+    @ExcelProperty("c047")
+    private String c047;
+
+    @Column("c048")
+    @ExcelCellName("c048")
+    @ExcelProperty("c048")
+    private String c048;
+
+    @Column("c049")
+    @ExcelCellName("c049")
+    @ExcelProperty(value = "c049", converter = WideStatusConverter.class)
+    private WideStatus c049;
+
+    @Column("c050")
+    @ExcelCellName("c050")
+    @ExcelProperty("c050")
+    private String c050;
+
+    @Column("c051")
+    @ExcelCellName("c051")
+    @ExcelProperty("c051")
+    private String c051;
+
+    @Column("c052")
+    @ExcelCellName("c052")
+    @ExcelProperty("c052")
+    private String c052;
+
+    @Column("c053")
+    @ExcelCellName("c053")
+    @ExcelProperty("c053")
+    private String c053;
+
+    @Column("c054")
+    @ExcelCellName("c054")
+    @ExcelProperty(value = "c054", converter = WideStatusConverter.class)
+    private WideStatus c054;
+
+    @Column("c055")
+    @ExcelCellName("c055")
+    @ExcelProperty("c055")
+    private String c055;
+
+    @Column("c056")
+    @ExcelCellName("c056")
+    @ExcelProperty("c056")
+    private String c056;
+
+    @Column("c057")
+    @ExcelCellName("c057")
+    @ExcelProperty("c057")
+    private String c057;
+
+    @Column("c058")
+    @ExcelCellName("c058")
+    @ExcelProperty("c058")
+    private String c058;
+
+    @Column("c059")
+    @ExcelCellName("c059")
+    @ExcelProperty(value = "c059", converter = WideStatusConverter.class)
+    private WideStatus c059;
+
+    @Column("c060")
+    @ExcelCellName("c060")
+    @ExcelProperty("c060")
+    private String c060;
+
+    @Column("c061")
+    @ExcelCellName("c061")
+    @ExcelProperty("c061")
+    private String c061;
+
+    @Column("c062")
+    @ExcelCellName("c062")
+    @ExcelProperty("c062")
+    private String c062;
+
+    @Column("c063")
+    @ExcelCellName("c063")
+    @ExcelProperty("c063")
+    private String c063;
+
+    @Column("c064")
+    @ExcelCellName("c064")
+    @ExcelProperty(value = "c064", converter = WideStatusConverter.class)
+    private WideStatus c064;
+
+    @Column("c065")
+    @ExcelCellName("c065")
+    @ExcelProperty("c065")
+    private String c065;
+
+    @Column("c066")
+    @ExcelCellName("c066")
+    @ExcelProperty("c066")
+    private String c066;
+
+    @Column("c067")
+    @ExcelCellName("c067")
+    @ExcelProperty("c067")
+    private String c067;
+
+    @Column("c068")
+    @ExcelCellName("c068")
+    @ExcelProperty("c068")
+    private String c068;
+
+    @Column("c069")
+    @ExcelCellName("c069")
+    @ExcelProperty(value = "c069", converter = WideStatusConverter.class)
+    private WideStatus c069;
+
+    @Column("c070")
+    @ExcelCellName("c070")
+    @ExcelProperty("c070")
+    private String c070;
+
+    @Column("c071")
+    @ExcelCellName("c071")
+    @ExcelProperty("c071")
+    private String c071;
+
+    @Column("c072")
+    @ExcelCellName("c072")
+    @ExcelProperty("c072")
+    private String c072;
+
+    @Column("c073")
+    @ExcelCellName("c073")
+    @ExcelProperty("c073")
+    private String c073;
+
+    @Column("c074")
+    @ExcelCellName("c074")
+    @ExcelProperty(value = "c074", converter = WideStatusConverter.class)
+    private WideStatus c074;
+
+    @Column("c075")
+    @ExcelCellName("c075")
+    @ExcelProperty("c075")
+    private String c075;
+
+    @Column("c076")
+    @ExcelCellName("c076")
+    @ExcelProperty("c076")
+    private String c076;
+
+    @Column("c077")
+    @ExcelCellName("c077")
+    @ExcelProperty("c077")
+    private String c077;
+
+    @Column("c078")
+    @ExcelCellName("c078")
+    @ExcelProperty("c078")
+    private String c078;
+
+    @Column("c079")
+    @ExcelCellName("c079")
+    @ExcelProperty(value = "c079", converter = WideStatusConverter.class)
+    private WideStatus c079;
+
+    @Column("c080")
+    @ExcelCellName("c080")
+    @ExcelProperty("c080")
+    private String c080;
+
+    public Wide80Text() {}
+
+    public String getC001() { return c001; }
+    public void setC001(String c001) { this.c001 = c001; }
+
+    public String getC002() { return c002; }
+    public void setC002(String c002) { this.c002 = c002; }
+
+    public String getC003() { return c003; }
+    public void setC003(String c003) { this.c003 = c003; }
+
+    public WideStatus getC004() { return c004; }
+    public void setC004(WideStatus c004) { this.c004 = c004; }
+
+    public String getC005() { return c005; }
+    public void setC005(String c005) { this.c005 = c005; }
+
+    public String getC006() { return c006; }
+    public void setC006(String c006) { this.c006 = c006; }
+
+    public String getC007() { return c007; }
+    public void setC007(String c007) { this.c007 = c007; }
+
+    public String getC008() { return c008; }
+    public void setC008(String c008) { this.c008 = c008; }
+
+    public WideStatus getC009() { return c009; }
+    public void setC009(WideStatus c009) { this.c009 = c009; }
+
+    public String getC010() { return c010; }
+    public void setC010(String c010) { this.c010 = c010; }
+
+    public String getC011() { return c011; }
+    public void setC011(String c011) { this.c011 = c011; }
+
+    public String getC012() { return c012; }
+    public void setC012(String c012) { this.c012 = c012; }
+
+    public String getC013() { return c013; }
+    public void setC013(String c013) { this.c013 = c013; }
+
+    public WideStatus getC014() { return c014; }
+    public void setC014(WideStatus c014) { this.c014 = c014; }
+
+    public String getC015() { return c015; }
+    public void setC015(String c015) { this.c015 = c015; }
+
+    public String getC016() { return c016; }
+    public void setC016(String c016) { this.c016 = c016; }
+
+    public String getC017() { return c017; }
+    public void setC017(String c017) { this.c017 = c017; }
+
+    public String getC018() { return c018; }
+    public void setC018(String c018) { this.c018 = c018; }
+
+    public WideStatus getC019() { return c019; }
+    public void setC019(WideStatus c019) { this.c019 = c019; }
+
+    public String getC020() { return c020; }
+    public void setC020(String c020) { this.c020 = c020; }
+
+    public String getC021() { return c021; }
+    public void setC021(String c021) { this.c021 = c021; }
+
+    public String getC022() { return c022; }
+    public void setC022(String c022) { this.c022 = c022; }
+
+    public String getC023() { return c023; }
+    public void setC023(String c023) { this.c023 = c023; }
+
+    public WideStatus getC024() { return c024; }
+    public void setC024(WideStatus c024) { this.c024 = c024; }
+
+    public String getC025() { return c025; }
+    public void setC025(String c025) { this.c025 = c025; }
+
+    public String getC026() { return c026; }
+    public void setC026(String c026) { this.c026 = c026; }
+
+    public String getC027() { return c027; }
+    public void setC027(String c027) { this.c027 = c027; }
+
+    public String getC028() { return c028; }
+    public void setC028(String c028) { this.c028 = c028; }
+
+    public WideStatus getC029() { return c029; }
+    public void setC029(WideStatus c029) { this.c029 = c029; }
+
+    public String getC030() { return c030; }
+    public void setC030(String c030) { this.c030 = c030; }
+
+    public String getC031() { return c031; }
+    public void setC031(String c031) { this.c031 = c031; }
+
+    public String getC032() { return c032; }
+    public void setC032(String c032) { this.c032 = c032; }
+
+    public String getC033() { return c033; }
+    public void setC033(String c033) { this.c033 = c033; }
+
+    public WideStatus getC034() { return c034; }
+    public void setC034(WideStatus c034) { this.c034 = c034; }
+
+    public String getC035() { return c035; }
+    public void setC035(String c035) { this.c035 = c035; }
+
+    public String getC036() { return c036; }
+    public void setC036(String c036) { this.c036 = c036; }
+
+    public String getC037() { return c037; }
+    public void setC037(String c037) { this.c037 = c037; }
+
+    public String getC038() { return c038; }
+    public void setC038(String c038) { this.c038 = c038; }
+
+    public WideStatus getC039() { return c039; }
+    public void setC039(WideStatus c039) { this.c039 = c039; }
+
+    public String getC040() { return c040; }
+    public void setC040(String c040) { this.c040 = c040; }
+
+    public String getC041() { return c041; }
+    public void setC041(String c041) { this.c041 = c041; }
+
+    public String getC042() { return c042; }
+    public void setC042(String c042) { this.c042 = c042; }
+
+    public String getC043() { return c043; }
+    public void setC043(String c043) { this.c043 = c043; }
+
+    public WideStatus getC044() { return c044; }
+    public void setC044(WideStatus c044) { this.c044 = c044; }
+
+    public String getC045() { return c045; }
+    public void setC045(String c045) { this.c045 = c045; }
+
+    public String getC046() { return c046; }
+    public void setC046(String c046) { this.c046 = c046; }
+
+    public String getC047() { return c047; }
+    public void setC047(String c047) { this.c047 = c047; }
+
+    public String getC048() { return c048; }
+    public void setC048(String c048) { this.c048 = c048; }
+
+    public WideStatus getC049() { return c049; }
+    public void setC049(WideStatus c049) { this.c049 = c049; }
+
+    public String getC050() { return c050; }
+    public void setC050(String c050) { this.c050 = c050; }
+
+    public String getC051() { return c051; }
+    public void setC051(String c051) { this.c051 = c051; }
+
+    public String getC052() { return c052; }
+    public void setC052(String c052) { this.c052 = c052; }
+
+    public String getC053() { return c053; }
+    public void setC053(String c053) { this.c053 = c053; }
+
+    public WideStatus getC054() { return c054; }
+    public void setC054(WideStatus c054) { this.c054 = c054; }
+
+    public String getC055() { return c055; }
+    public void setC055(String c055) { this.c055 = c055; }
+
+    public String getC056() { return c056; }
+    public void setC056(String c056) { this.c056 = c056; }
+
+    public String getC057() { return c057; }
+    public void setC057(String c057) { this.c057 = c057; }
+
+    public String getC058() { return c058; }
+    public void setC058(String c058) { this.c058 = c058; }
+
+    public WideStatus getC059() { return c059; }
+    public void setC059(WideStatus c059) { this.c059 = c059; }
+
+    public String getC060() { return c060; }
+    public void setC060(String c060) { this.c060 = c060; }
+
+    public String getC061() { return c061; }
+    public void setC061(String c061) { this.c061 = c061; }
+
+    public String getC062() { return c062; }
+    public void setC062(String c062) { this.c062 = c062; }
+
+    public String getC063() { return c063; }
+    public void setC063(String c063) { this.c063 = c063; }
+
+    public WideStatus getC064() { return c064; }
+    public void setC064(WideStatus c064) { this.c064 = c064; }
+
+    public String getC065() { return c065; }
+    public void setC065(String c065) { this.c065 = c065; }
+
+    public String getC066() { return c066; }
+    public void setC066(String c066) { this.c066 = c066; }
+
+    public String getC067() { return c067; }
+    public void setC067(String c067) { this.c067 = c067; }
+
+    public String getC068() { return c068; }
+    public void setC068(String c068) { this.c068 = c068; }
+
+    public WideStatus getC069() { return c069; }
+    public void setC069(WideStatus c069) { this.c069 = c069; }
+
+    public String getC070() { return c070; }
+    public void setC070(String c070) { this.c070 = c070; }
+
+    public String getC071() { return c071; }
+    public void setC071(String c071) { this.c071 = c071; }
+
+    public String getC072() { return c072; }
+    public void setC072(String c072) { this.c072 = c072; }
+
+    public String getC073() { return c073; }
+    public void setC073(String c073) { this.c073 = c073; }
+
+    public WideStatus getC074() { return c074; }
+    public void setC074(WideStatus c074) { this.c074 = c074; }
+
+    public String getC075() { return c075; }
+    public void setC075(String c075) { this.c075 = c075; }
+
+    public String getC076() { return c076; }
+    public void setC076(String c076) { this.c076 = c076; }
+
+    public String getC077() { return c077; }
+    public void setC077(String c077) { this.c077 = c077; }
+
+    public String getC078() { return c078; }
+    public void setC078(String c078) { this.c078 = c078; }
+
+    public WideStatus getC079() { return c079; }
+    public void setC079(WideStatus c079) { this.c079 = c079; }
+
+    public String getC080() { return c080; }
+    public void setC080(String c080) { this.c080 = c080; }
+}
@@ -0,0 +1,74 @@
+package io.github.chitralabs.sheetz.benchmarks.model.wide;
+
+import java.io.File;
+import java.io.PrintWriter;
+
+/**
+ * Writes the Java source of one wide model per column count and type mix in
+ * {@link WideSchema}. Every field carries Sheetz {@code @Column}, Poiji
+ * {@code @ExcelCellName} and EasyExcel {@code @ExcelProperty}, and has a getter and
+ * setter, as EasyExcel needs.
+ *
+ * <pre>mvn compile exec:java -Dexec.mainClass=io.github.chitralabs.sheetz.benchmarks.model.wide.WideModelGenerator</pre>
+ */
+public class WideModelGenerator {
+
+    public static void main(String[] args) throws Exception {
+        String pkg = WideModelGenerator.class.getPackage().getName();
+        File dir = new File(args.length > 0 ? args[0] : "src/main/java", pkg.replace('.', File.separatorChar));
+        dir.mkdirs();
+        for (int count : WideSchema.COLUMN_COUNTS) {
+            for (WideSchema.TypeMix mix : WideSchema.TypeMix.values()) {
+                String simpleName = "Wide" + count + mix.displayName();
+                try (PrintWriter out = new PrintWriter(new File(dir, simpleName + ".java"), "UTF-8")) {
+                    write(out, pkg, simpleName, WideSchema.columns(count, mix), mix);
+                }
+            }
+        }
+    }
+
+    private static void write(PrintWriter out, String pkg, String simpleName, ColumnType[] columns,
+                              WideSchema.TypeMix mix) {
+        out.println("package " + pkg + ";");
+        out.println();
+        out.println("import com.alibaba.excel.annotation.ExcelProperty;");
+        out.println("import com.poiji.annotation.ExcelCellName;");
+        out.println("import io.github.chitralabs.sheetz.annotation.Column;");
+        out.println();
+        out.println("/**");
+        out.println(" * Generated by {@link WideModelGenerator}: " + columns.length + " columns, "
+                + mix + " type mix. Do not edit.");
+        out.println(" */");
+        out.println("public class " + simpleName + " {");
+        for (int c = 0; c < columns.length; c++) {
+            String header = WideSchema.header(c);
+            out.println();
+            out.println("    @Column(\"" + header + "\")");
+            out.println("    @ExcelCellName(\"" + header + "\")");
+            if (columns[c] == ColumnType.ENUM) {
+                out.println("    @ExcelProperty(value = \"" + header + "\", converter = WideStatusConverter.class)");
+            } else {
+                out.println("    @ExcelProperty(\"" + header + "\")");
+            }
+            out.println("    private " + typeName(columns[c]) + " " + header + ";");
+        }
+        out.println();
+        out.println("    public " + simpleName + "() {}");
+        for (int c = 0; c < columns.length; c++) {
+            String field = WideSchema.header(c);
+            String property = Character.toUpperCase(field.charAt(0)) + field.substring(1);
+            String type = typeName(columns[c]);
+            out.println();
+            out.println("    public " + type + " get" + property + "() { return " + field + "; }");
+            out.println("    public void set" + property + "(" + type + " " + field + ") { this." + field + " = " + field + "; }");
+        }
+        out.println("}");
+    }
+
+    private static String typeName(ColumnType type) {
+        Class<?> javaType = type.javaType();
+        return javaType.getPackage().getName().equals("java.lang") || javaType == WideStatus.class
+                ? javaType.getSimpleName()
+                : javaType.getName();
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.chitralabs.sheetz.benchmarks.model.wide;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+import com.poiji.annotation.ExcelCellName;
+import io.github.chitralabs.sheetz.annotation.Column;
+
+import java.time.LocalDate;
+
+/**
+ * Two columns of a {@link WideSchema.TypeMix#MIXED} wide sheet ({@code c001} text,
+ * {@code c005} date), for reads that need only a projection of the columns.
+ */
+public class WideProjection {
+
+    @Column("c001")
+    @ExcelCellName("c001")
+    @ExcelProperty("c001")
+    private String c001;
+
+    @Column("c005")
+    @ExcelCellName("c005")
+    @ExcelProperty("c005")
+    private LocalDate c005;
+
+    public WideProjection() {}
+
+    public String getC001() { return c001; }
+    public void setC001(String c001) { this.c001 = c001; }
+
+    public LocalDate getC005() { return c005; }
+    public void setC005(LocalDate c005) { this.c005 = c005; }
+}
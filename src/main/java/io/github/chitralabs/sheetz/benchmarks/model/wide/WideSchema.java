@@ -0,0 +1,64 @@
+package io.github.chitralabs.sheetz.benchmarks.model.wide;
+
+/**
+ * Spec for the generated wide models: a column count and a type mix. Column {@code i}
+ * is named {@code c001}, {@code c002}, ... and takes its type from the mix's repeating
+ * pattern.
+ *
+ * <p>The models in this package were generated from these specs with
+ * {@link WideModelGenerator}. Regenerate them after changing a pattern.
+ */
+public final class WideSchema {
+
+    /** Column counts that have a generated model. */
+    public static final int[] COLUMN_COUNTS = {20, 80, 150};
+
+    public enum TypeMix {
+        /** Mostly free text, some enums and blanks. */
+        TEXT(ColumnType.STRING, ColumnType.STRING, ColumnType.STRING, ColumnType.ENUM, ColumnType.NULLABLE_STRING),
+        /** Numbers only: doubles, integers, decimals, some blanks. */
+        NUMERIC(ColumnType.DOUBLE, ColumnType.INTEGER, ColumnType.BIG_DECIMAL, ColumnType.NULLABLE_DOUBLE, ColumnType.INTEGER),
+        /** Every supported type, including dates, decimals, enums and nullable columns. */
+        MIXED(ColumnType.STRING, ColumnType.INTEGER, ColumnType.DOUBLE, ColumnType.BOOLEAN, ColumnType.LOCAL_DATE,
+                ColumnType.BIG_DECIMAL, ColumnType.ENUM, ColumnType.LOCAL_DATE_TIME, ColumnType.NULLABLE_STRING,
+                ColumnType.NULLABLE_DOUBLE);
+
+        private final ColumnType[] pattern;
+
+        TypeMix(ColumnType... pattern) {
+            this.pattern = pattern;
+        }
+
+        /** {@code "Mixed"} for {@code MIXED}, as used in model class names. */
+        public String displayName() {
+            return name().charAt(0) + name().substring(1).toLowerCase();
+        }
+    }
+
+    private WideSchema() {}
+
+    public static ColumnType[] columns(int count, TypeMix mix) {
+        ColumnType[] columns = new ColumnType[count];
+        for (int i = 0; i < count; i++) {
+            columns[i] = mix.pattern[i % mix.pattern.length];
+        }
+        return columns;
+    }
+
+    public static String header(int column) {
+        return String.format("c%03d", column + 1);
+    }
+
+    public static String modelClassName(int count, TypeMix mix) {
+        return WideSchema.class.getPackage().getName() + ".Wide" + count + mix.displayName();
+    }
+
+    public static Class<?> modelClass(int count, TypeMix mix) {
+        try {
+            return Class.forName(modelClassName(count, mix));
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("No generated model for " + count + " columns, " + mix
+                    + "; run WideModelGenerator", e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.chitralabs.sheetz.benchmarks.model.wide;
+
+/**
+ * Enum column type for the wide models.
+ */
+public enum WideStatus {
+    ACTIVE, PENDING, SUSPENDED, CLOSED
+}
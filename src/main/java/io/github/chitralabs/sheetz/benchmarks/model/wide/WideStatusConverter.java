@@ -0,0 +1,34 @@
+package io.github.chitralabs.sheetz.benchmarks.model.wide;
+
+import com.alibaba.excel.converters.Converter;
+import com.alibaba.excel.converters.ReadConverterContext;
+import com.alibaba.excel.converters.WriteConverterContext;
+import com.alibaba.excel.enums.CellDataTypeEnum;
+import com.alibaba.excel.metadata.data.WriteCellData;
+
+/**
+ * EasyExcel has no built-in enum support; this maps {@link WideStatus} to and from its name.
+ */
+public class WideStatusConverter implements Converter<WideStatus> {
+
+    @Override
+    public Class<?> supportJavaTypeKey() {
+        return WideStatus.class;
+    }
+
+    @Override
+    public CellDataTypeEnum supportExcelTypeKey() {
+        return CellDataTypeEnum.STRING;
+    }
+
+    @Override
+    public WideStatus convertToJavaData(ReadConverterContext<?> context) {
+        String text = context.getReadCellData().getStringValue();
+        return text == null || text.isEmpty() ? null : WideStatus.valueOf(text);
+    }
+
+    @Override
+    public WriteCellData<?> convertToExcelData(WriteConverterContext<WideStatus> context) {
+        return new WriteCellData<>(context.getValue().name());
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JMH profiler that counts virtual threads pinned to their carrier, from JFR's
+ * {@code jdk.VirtualThreadPinned} event, recorded with no duration threshold.
+ * Reports {@code pinned.count} (events per iteration) and {@code pinned.time} (total
+ * time pinned per iteration, ms). Platform-thread benchmarks report zero.
+ *
+ * <p>The event carries a stack trace. To see where the pinning happens, run with
+ * {@code -jvmArgsAppend -XX:StartFlightRecording=filename=pinned.jfr} and
+ * {@code jfr print --events jdk.VirtualThreadPinned pinned.jfr}.
+ */
+public class PinningProfiler implements InternalProfiler {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+
+    private Recording recording;
+
+    @Override
+    public String getDescription() {
+        return "Virtual threads pinned to their carrier (JFR jdk.VirtualThreadPinned)";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        recording = new Recording();
+        recording.enable(EVENT).withThreshold(Duration.ZERO).withStackTrace();
+        recording.start();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+                                                       IterationParams iterationParams,
+                                                       IterationResult result) {
+        recording.stop();
+        try {
+            Path file = Files.createTempFile("pinning", ".jfr");
+            try {
+                recording.dump(file);
+                long count = 0;
+                long nanos = 0;
+                for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                    if (event.getEventType().getName().equals(EVENT)) {
+                        count++;
+                        nanos += event.getDuration().toNanos();
+                    }
+                }
+                return List.of(
+                        new ScalarResult("pinned.count", count, "events", AggregationPolicy.AVG),
+                        new ScalarResult("pinned.time", nanos / 1e6, "ms", AggregationPolicy.AVG));
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            recording.close();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package io.github.chitralabs.sheetz.benchmarks.jmh;
+
+import com.poiji.bind.Poiji;
+import io.github.chitralabs.sheetz.Sheetz;
+import io.github.chitralabs.sheetz.benchmarks.model.Product;
+import io.github.chitralabs.sheetz.benchmarks.model.ProductEasyExcel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fan-out of {@value #FILES} independent workbook reads or writes, one task per file, as
+ * an export service would run them: on a fixed pool of platform threads (one per
+ * available processor) or on a virtual thread per task. The score is the time per file.
+ *
+ * <p>A virtual thread that blocks while inside {@code synchronized} pins its carrier
+ * thread, so lock-heavy code (XMLBeans in POI's usermodel, the libraries' own monitors)
+ * can serialize a virtual-thread run. {@link PinningProfiler} counts those events. If a
+ * library scores worse on {@code virtual} than on {@code platform} and shows pinning,
+ * that is the cause.
+ *
+ * <p>Needs JDK 21. It is built only by the {@code jdk21} Maven profile:
+ * <pre>java -jar target/benchmarks.jar VirtualThreadBenchmark -prof io.github.chitralabs.sheetz.benchmarks.jmh.PinningProfiler</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class VirtualThreadBenchmark {
+
+    static final int FILES = 200;
+    private static final String DIR = "benchmark_data/vthreads/";
+
+    @Param({"1000"})
+    private int rowCount;
+
+    @Param({"platform", "virtual"})
+    private String executor;
+
+    private List<Product> products;
+    private List<ProductEasyExcel> productsEasyExcel;
+    private String[] inputs;
+    private ExecutorService pool;
+
+    @FunctionalInterface
+    private interface FileTask {
+        Object run(int file) throws Exception;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        new File(DIR).mkdirs();
+        products = DataGenerator.generateProducts(rowCount);
+        productsEasyExcel = DataGenerator.toEasyExcel(products);
+
+        String template = "benchmark_data/read_" + rowCount + ".xlsx";
+        if (!new File(template).exists()) {
+            DataGenerator.generateTestFile(template, rowCount);
+        }
+        inputs = new String[FILES];
+        for (int i = 0; i < FILES; i++) {
+            inputs[i] = DIR + "read_" + rowCount + "_" + i + ".xlsx";
+            Files.copy(new File(template).toPath(), new File(inputs[i]).toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        pool = switch (executor) {
+            case "platform" -> Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+            case "virtual" -> Executors.newVirtualThreadPerTaskExecutor();
+            default -> throw new IllegalArgumentException("Unknown executor: " + executor + " (platform, virtual)");
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /** Runs {@code task} for every file on the pool and waits for all of them. */
+    private void fanOut(Blackhole bh, FileTask task) throws Exception {
+        List<Future<Object>> futures = new ArrayList<>(FILES);
+        for (int i = 0; i < FILES; i++) {
+            int file = i;
+            futures.add(pool.submit((Callable<Object>) () -> task.run(file)));
+        }
+        for (Future<Object> future : futures) {
+            bh.consume(future.get());
+        }
+    }
+
+    private static String output(String library, int i) {
+        return OutputSizeProfiler.track(DIR + library + "_" + i + ".xlsx");
+    }
+
+    // ── Write ──────────────────────────────────────────
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void sheetzWrite(Blackhole bh) throws Exception {
+        fanOut(bh, i -> {
+            Sheetz.write(products, output("sheetz", i));
+            return null;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void poiWrite(Blackhole bh) throws Exception {
+        fanOut(bh, i -> {
+            try (OutputStream out = new FileOutputStream(output("poi", i))) {
+                ProductIO.poiWrite(products, out);
+            }
+            return null;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void poiStreamingWrite(Blackhole bh) throws Exception {
+        fanOut(bh, i -> {
+            try (OutputStream out = new FileOutputStream(output("poi_sxssf", i))) {
+                ProductIO.poiStreamingWrite(products, out);
+            }
+            return null;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void easyExcelWrite(Blackhole bh) throws Exception {
+        fanOut(bh, i -> {
+            try (OutputStream out = new FileOutputStream(output("easyexcel", i))) {
+                ProductIO.easyExcelWrite(productsEasyExcel, out);
+            }
+            return null;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void fastExcelWrite(Blackhole bh) throws Exception {
+        fanOut(bh, i -> {
+            try (OutputStream out = new FileOutputStream(output("fastexcel", i))) {
+                ProductIO.fastExcelWrite(products, out);
+            }
+            return null;
+        });
+    }
+
+    // ── Read ───────────────────────────────────────────
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void sheetzRead(Blackhole bh) throws Exception {
+        fanOut(bh, i -> Sheetz.read(inputs[i], Product.class));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void poiRead(Blackhole bh) throws Exception {
+        fanOut(bh, i -> {
+            try (InputStream in = new FileInputStream(inputs[i])) {
+                return ProductIO.poiRead(in);
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void easyExcelRead(Blackhole bh) throws Exception {
+        fanOut(bh, i -> {
+            try (InputStream in = new FileInputStream(inputs[i])) {
+                return ProductIO.easyExcelRead(in);
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void fastExcelRead(Blackhole bh) throws Exception {
+        fanOut(bh, i -> {
+            try (InputStream in = new FileInputStream(inputs[i])) {
+                return ProductIO.fastExcelRead(in);
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void poijiRead(Blackhole bh) throws Exception {
+        fanOut(bh, i -> Poiji.fromExcel(new File(inputs[i]), Product.class));
+    }
+}